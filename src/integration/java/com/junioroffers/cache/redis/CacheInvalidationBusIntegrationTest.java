@@ -0,0 +1,111 @@
+package com.junioroffers.cache.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.junioroffers.JobOffersApplication;
+import com.junioroffers.domain.offer.OfferFacade;
+import com.junioroffers.domain.offer.dto.OfferRequestDto;
+import com.junioroffers.domain.offer.dto.OfferResponseDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@Testcontainers
+public class CacheInvalidationBusIntegrationTest {
+    private static final String INVALIDATION_CHANNEL = "offers:cache-invalidation";
+    private static final Duration REORDER_WINDOW = Duration.ofSeconds(1);
+
+    @Container
+    public static final MongoDBContainer mongoDBContainer = new MongoDBContainer(DockerImageName.parse("mongo:4.2.2"));
+
+    @Container
+    public static final GenericContainer<?> REDIS = new GenericContainer<>("redis").withExposedPorts(6379);
+
+    static ConfigurableApplicationContext firstNode;
+    static ConfigurableApplicationContext secondNode;
+
+    @BeforeAll
+    static void startNodes() {
+        firstNode = startNode();
+        secondNode = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        secondNode.close();
+        firstNode.close();
+    }
+
+    @Test
+    void should_evict_local_offers_cache_on_other_node_when_offer_was_saved() {
+        // given
+        OfferFacade firstNodeOffers = firstNode.getBean(OfferFacade.class);
+        OfferFacade secondNodeOffers = secondNode.getBean(OfferFacade.class);
+        firstNodeOffers.findAllOffers();
+        assertThat(secondNodeOffers.findAllOffers()).extracting(OfferResponseDto::offerUrl)
+                .doesNotContain("https://offers.pl/bus-01");
+
+        // when
+        firstNodeOffers.saveOffer(new OfferRequestDto("Bus", "Junior", "9000", "https://offers.pl/bus-01"));
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(secondNodeOffers.findAllOffers())
+                        .extracting(OfferResponseDto::offerUrl)
+                        .contains("https://offers.pl/bus-01"));
+    }
+
+    @Test
+    void should_clear_local_caches_when_invalidation_events_were_missed() throws InterruptedException {
+        // given
+        secondNode.getBean(OfferFacade.class).findAllOffers();
+        Cache<?, ?> localOffersCache = localOffersCache(secondNode);
+        assertThat(localOffersCache.asMap()).isNotEmpty();
+        StringRedisTemplate publisher = new StringRedisTemplate(secondNode.getBean(RedisConnectionFactory.class));
+        publisher.convertAndSend(INVALIDATION_CHANNEL, "missing-node|1|otherCache");
+        publisher.convertAndSend(INVALIDATION_CHANNEL, "missing-node|3|otherCache");
+        Thread.sleep(REORDER_WINDOW.toMillis());
+
+        // when
+        publisher.convertAndSend(INVALIDATION_CHANNEL, "missing-node|4|otherCache");
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(localOffersCache.asMap()).isEmpty());
+    }
+
+    private static Cache<?, ?> localOffersCache(ConfigurableApplicationContext node) {
+        return (Cache<?, ?>) node.getBean(CacheManager.class).getCache(OfferFacade.OFFERS_CACHE).getNativeCache();
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(JobOffersApplication.class)
+                .profiles("integration")
+                .properties(
+                        "server.port=0",
+                        "scheduling.enabled=false",
+                        "spring.data.mongodb.uri=" + mongoDBContainer.getReplicaSetUrl(),
+                        "spring.cache.type=redis",
+                        "spring.redis.host=" + REDIS.getHost(),
+                        "spring.redis.port=" + REDIS.getFirstMappedPort(),
+                        "spring.cache.redis.time-to-live=PT10M",
+                        "offer.cache.local.time-to-live=PT10M",
+                        "offer.cache.invalidation.channel=" + INVALIDATION_CHANNEL,
+                        "offer.cache.invalidation.reorder-window=" + REORDER_WINDOW)
+                .run();
+    }
+}
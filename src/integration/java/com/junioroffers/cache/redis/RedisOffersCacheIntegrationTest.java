@@ -47,6 +47,7 @@ class RedisOffersCacheIntegrationTest extends BaseIntegrationTest {
         registry.add("spring.redis.port", () -> REDIS.getFirstMappedPort().toString());
         registry.add("spring.cache.type", () -> "redis");
         registry.add("spring.cache.redis.time-to-live", () -> "PT1S");
+        registry.add("offer.cache.local.time-to-live", () -> "PT1S");
     }
 
     @Test
@@ -90,9 +91,18 @@ class RedisOffersCacheIntegrationTest extends BaseIntegrationTest {
         );
         // then
         verify(offerFacade, times(1)).findAllOffers();
-        assertThat(cacheManager.getCacheNames().contains("jobOffers")).isFalse();
+        assertThat(cacheManager.getCacheNames().contains("jobOffers")).isTrue();
 
-        // step 4: cache should be invalidated
+        // step 4: second request within time to live should be served from cache
+        // given && when
+        mockMvc.perform(get("/offers")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+        );
+        // then
+        verify(offerFacade, times(1)).findAllOffers();
+
+        // step 5: cache should be invalidated
         // given && when && then
         await()
                 .atMost(Duration.ofSeconds(4))
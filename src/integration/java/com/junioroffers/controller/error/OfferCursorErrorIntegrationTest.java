@@ -0,0 +1,26 @@
+package com.junioroffers.controller.error;
+
+import com.junioroffers.BaseIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class OfferCursorErrorIntegrationTest extends BaseIntegrationTest {
+
+    @Test
+    @WithMockUser
+    public void should_return_400_bad_request_when_offers_page_cursor_is_malformed() throws Exception {
+        // given && when
+        ResultActions perform = mockMvc.perform(get("/offers")
+                .param("limit", "10")
+                .param("after", "not-an-offer-id"));
+
+        // then
+        perform.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Offer cursor not-an-offer-id is not valid"));
+    }
+}
@@ -0,0 +1,126 @@
+package com.junioroffers.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.junioroffers.SampleJobOfferResponse;
+import com.junioroffers.domain.offer.dto.JobOfferResponse;
+import com.junioroffers.http.error.InMemoryOfferFeedValidatorsStore;
+import com.junioroffers.infrastructure.offer.http.MultiSourceOfferFetcher;
+import com.junioroffers.infrastructure.offer.http.OfferHttpClientConfig;
+import com.junioroffers.infrastructure.offer.http.OfferResilienceProperties;
+import com.junioroffers.infrastructure.offer.http.OfferSourceStats;
+import com.junioroffers.infrastructure.offer.http.OfferSourceStatus;
+import com.junioroffers.infrastructure.offer.http.OfferSourcesProperties;
+import com.junioroffers.infrastructure.offer.http.RestTemplateResponseErrorHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.junioroffers.BaseIntegrationTest.WIRE_MOCK_HOST;
+import static com.junioroffers.http.error.OfferHttpClientTestConfig.TEST_POOL_PROPERTIES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class MultiSourceOfferFetcherIntegrationTest implements SampleJobOfferResponse {
+
+    @RegisterExtension
+    public static WireMockExtension firstSource = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    @RegisterExtension
+    public static WireMockExtension secondSource = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    OfferHttpClientConfig offerHttpClientConfig = new OfferHttpClientConfig();
+    PoolingHttpClientConnectionManager connectionManager = offerHttpClientConfig.offerHttpConnectionManager(TEST_POOL_PROPERTIES);
+
+    MultiSourceOfferFetcher multiSourceOfferFetcher = offerHttpClientConfig.remoteOfferClient(
+            new OfferSourcesProperties(List.of(
+                    new OfferSourcesProperties.Source("first", WIRE_MOCK_HOST, firstSource.getPort(), 1000, 5000, Duration.ofSeconds(5)),
+                    new OfferSourcesProperties.Source("second", WIRE_MOCK_HOST, secondSource.getPort(), 1000, 5000, Duration.ofMillis(500))
+            )),
+            TEST_POOL_PROPERTIES,
+            new OfferResilienceProperties(1, Duration.ZERO, Duration.ZERO, 1, 3, Duration.ofMinutes(1)),
+            new RestTemplateResponseErrorHandler(),
+            connectionManager,
+            offerHttpClientConfig.offerHttpTransport(connectionManager, TEST_POOL_PROPERTIES),
+            new InMemoryOfferFeedValidatorsStore(),
+            new ObjectMapper(),
+            new SimpleMeterRegistry(),
+            Clock.systemUTC(),
+            WIRE_MOCK_HOST, 0, 1000, 1000);
+
+    @Test
+    void should_merge_offers_from_all_sources() {
+        // given
+        firstSource.stubFor(WireMock.get("/offers").willReturn(okJson(bodyWithTwoOffersJson())));
+        secondSource.stubFor(WireMock.get("/offers").willReturn(okJson(bodyWithOneOfferJson())));
+
+        List<JobOfferResponse> offers = new ArrayList<>();
+
+        // when
+        boolean completeFeed = multiSourceOfferFetcher.fetchOffers(10, offers::addAll);
+
+        // then
+        assertThat(offers).hasSize(3);
+        assertThat(completeFeed).isTrue();
+        assertThat(multiSourceOfferFetcher.getSourceStats())
+                .extracting(OfferSourceStats::status)
+                .containsOnly(OfferSourceStatus.SUCCEEDED);
+    }
+
+    @Test
+    void should_return_offers_of_healthy_source_when_other_source_times_out() {
+        // given
+        firstSource.stubFor(WireMock.get("/offers").willReturn(okJson(bodyWithFourOffersJson())));
+        secondSource.stubFor(WireMock.get("/offers").willReturn(okJson(bodyWithOneOfferJson()).withFixedDelay(2000)));
+        List<JobOfferResponse> offers = new ArrayList<>();
+
+        // when
+        boolean completeFeed = multiSourceOfferFetcher.fetchOffers(10, offers::addAll);
+
+        // then
+        assertThat(offers).hasSize(4);
+        assertThat(completeFeed).isFalse();
+        assertThat(multiSourceOfferFetcher.getSourceStats())
+                .extracting(OfferSourceStats::source, OfferSourceStats::status)
+                .containsExactlyInAnyOrder(
+                        tuple("first", OfferSourceStatus.SUCCEEDED),
+                        tuple("second", OfferSourceStatus.TIMED_OUT));
+    }
+
+    @Test
+    void should_throw_exception_when_all_sources_failed() {
+        // given
+        firstSource.stubFor(WireMock.get("/offers").willReturn(WireMock.aResponse().withStatus(HttpStatus.NOT_FOUND.value())));
+        secondSource.stubFor(WireMock.get("/offers").willReturn(WireMock.aResponse().withStatus(HttpStatus.NOT_FOUND.value())));
+
+        // when
+        Throwable throwable = catchThrowable(() -> multiSourceOfferFetcher.fetchOffers());
+
+        // then
+        assertThat(throwable).isInstanceOf(ResponseStatusException.class);
+        assertThat(throwable.getMessage()).isEqualTo("404 NOT_FOUND");
+    }
+
+    private static ResponseDefinitionBuilder okJson(String body) {
+        return WireMock.aResponse()
+                .withStatus(HttpStatus.OK.value())
+                .withHeader("Content-Type", "application/json")
+                .withBody(body);
+    }
+}
@@ -0,0 +1,183 @@
+package com.junioroffers.http;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import com.junioroffers.SampleJobOfferResponse;
+import com.junioroffers.domain.offer.OfferFetchable;
+import com.junioroffers.domain.offer.dto.JobOfferResponse;
+import com.junioroffers.http.error.OfferHttpClientTestConfig;
+import com.junioroffers.infrastructure.offer.http.CircuitBreakerState;
+import com.junioroffers.infrastructure.offer.http.OfferResilienceProperties;
+import com.junioroffers.infrastructure.offer.http.ResilientOfferFetcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ResilientOfferFetcherIntegrationTest implements SampleJobOfferResponse {
+
+    private static final String SOURCE_NAME = "wiremock";
+
+    @RegisterExtension
+    public static WireMockExtension wireMockServer = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    OfferHttpClientTestConfig offerHttpClientTestConfig = new OfferHttpClientTestConfig();
+    OfferFetchable remoteOfferClient = offerHttpClientTestConfig.remoteOfferTestClient(wireMockServer.getPort(), 1000, 1000);
+
+    @Test
+    void should_return_offers_when_upstream_recovers_within_retry_budget() {
+        // given
+        stubFailuresThenSuccess(2);
+        ResilientOfferFetcher fetcher = resilientFetcher(3, 5, Clock.systemUTC());
+
+        // when
+        List<JobOfferResponse> offers = fetcher.fetchOffers();
+
+        // then
+        assertThat(offers).hasSize(2);
+        wireMockServer.verify(3, WireMock.getRequestedFor(WireMock.urlEqualTo("/offers")));
+        assertThat(meterRegistry.counter("offers.source.retries", "source", SOURCE_NAME).count()).isEqualTo(2);
+    }
+
+    @Test
+    void should_not_retry_when_upstream_returns_client_error() {
+        // given
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .willReturn(WireMock.aResponse().withStatus(404)));
+        ResilientOfferFetcher fetcher = resilientFetcher(3, 5, Clock.systemUTC());
+
+        // when
+        Throwable throwable = catchThrowable(fetcher::fetchOffers);
+
+        // then
+        assertThat(throwable).isInstanceOf(ResponseStatusException.class);
+        assertThat(throwable.getMessage()).isEqualTo("404 NOT_FOUND");
+        wireMockServer.verify(1, WireMock.getRequestedFor(WireMock.urlEqualTo("/offers")));
+    }
+
+    @Test
+    void should_count_exhausted_retry_sequence_as_single_breaker_failure() {
+        // given
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .willReturn(WireMock.aResponse().withStatus(503)));
+        ResilientOfferFetcher fetcher = resilientFetcher(3, 2, Clock.systemUTC());
+
+        // when
+        Throwable throwable = catchThrowable(fetcher::fetchOffers);
+
+        // then
+        assertThat(throwable).isInstanceOf(ResponseStatusException.class);
+        assertThat(fetcher.getCircuitBreakerState()).isEqualTo(CircuitBreakerState.CLOSED);
+        wireMockServer.verify(3, WireMock.getRequestedFor(WireMock.urlEqualTo("/offers")));
+    }
+
+    @Test
+    void should_open_circuit_and_stop_calling_dead_upstream() {
+        // given
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .willReturn(WireMock.aResponse().withStatus(503)));
+        ResilientOfferFetcher fetcher = resilientFetcher(2, 2, Clock.systemUTC());
+        catchThrowable(fetcher::fetchOffers);
+        catchThrowable(fetcher::fetchOffers);
+
+        // when
+        Throwable throwable = catchThrowable(fetcher::fetchOffers);
+
+        // then
+        assertThat(throwable).isInstanceOf(ResponseStatusException.class);
+        assertThat(throwable.getMessage()).contains("503 SERVICE_UNAVAILABLE").contains("is open");
+        assertThat(fetcher.getCircuitBreakerState()).isEqualTo(CircuitBreakerState.OPEN);
+        wireMockServer.verify(4, WireMock.getRequestedFor(WireMock.urlEqualTo("/offers")));
+        assertThat(transitions(CircuitBreakerState.CLOSED, CircuitBreakerState.OPEN)).isEqualTo(1);
+    }
+
+    @Test
+    void should_close_circuit_after_successful_trial_call_when_open_duration_passed() {
+        // given
+        stubFailuresThenSuccess(1);
+        MutableClock clock = new MutableClock(Instant.parse("2023-01-01T10:00:00Z"));
+        ResilientOfferFetcher fetcher = resilientFetcher(1, 1, clock);
+        catchThrowable(fetcher::fetchOffers);
+        clock.advance(Duration.ofMinutes(2));
+
+        // when
+        List<JobOfferResponse> offers = fetcher.fetchOffers();
+
+        // then
+        assertThat(offers).hasSize(2);
+        assertThat(fetcher.getCircuitBreakerState()).isEqualTo(CircuitBreakerState.CLOSED);
+        assertThat(transitions(CircuitBreakerState.CLOSED, CircuitBreakerState.OPEN)).isEqualTo(1);
+        assertThat(transitions(CircuitBreakerState.OPEN, CircuitBreakerState.HALF_OPEN)).isEqualTo(1);
+        assertThat(transitions(CircuitBreakerState.HALF_OPEN, CircuitBreakerState.CLOSED)).isEqualTo(1);
+    }
+
+    private ResilientOfferFetcher resilientFetcher(int maxAttempts, int failureThreshold, Clock clock) {
+        final OfferResilienceProperties properties = new OfferResilienceProperties(
+                maxAttempts, Duration.ofMillis(10), Duration.ofMillis(50), 2, failureThreshold, Duration.ofMinutes(1));
+        return offerHttpClientTestConfig.resilientOfferFetcher(SOURCE_NAME, remoteOfferClient, properties, meterRegistry, clock);
+    }
+
+    private void stubFailuresThenSuccess(int failures) {
+        String state = Scenario.STARTED;
+        for (int failure = 1; failure <= failures; failure++) {
+            final String nextState = "failure " + failure;
+            wireMockServer.stubFor(WireMock.get("/offers")
+                    .inScenario("flaky upstream")
+                    .whenScenarioStateIs(state)
+                    .willReturn(WireMock.aResponse().withStatus(500))
+                    .willSetStateTo(nextState));
+            state = nextState;
+        }
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .inScenario("flaky upstream")
+                .whenScenarioStateIs(state)
+                .willReturn(WireMock.okJson(bodyWithTwoOffersJson())));
+    }
+
+    private double transitions(CircuitBreakerState from, CircuitBreakerState to) {
+        return meterRegistry.counter("offers.source.circuit.transitions",
+                "source", SOURCE_NAME, "from", from.name(), "to", to.name()).count();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
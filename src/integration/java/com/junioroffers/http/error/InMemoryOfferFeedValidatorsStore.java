@@ -0,0 +1,22 @@
+package com.junioroffers.http.error;
+
+import com.junioroffers.infrastructure.offer.http.OfferFeedValidators;
+import com.junioroffers.infrastructure.offer.http.OfferFeedValidatorsStore;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryOfferFeedValidatorsStore implements OfferFeedValidatorsStore {
+    private final Map<String, OfferFeedValidators> validatorsBySource = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<OfferFeedValidators> findBySource(String source) {
+        return Optional.ofNullable(validatorsBySource.get(source));
+    }
+
+    @Override
+    public void save(OfferFeedValidators validators) {
+        validatorsBySource.put(validators.source(), validators);
+    }
+}
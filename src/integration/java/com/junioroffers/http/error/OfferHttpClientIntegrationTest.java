@@ -6,10 +6,15 @@ import com.github.tomakehurst.wiremock.http.Fault;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import com.junioroffers.SampleJobOfferResponse;
 import com.junioroffers.domain.offer.OfferFetchable;
+import com.junioroffers.domain.offer.dto.JobOfferResponse;
+import com.junioroffers.infrastructure.offer.http.OfferFeedValidators;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -169,5 +174,241 @@ public class OfferHttpClientIntegrationTest implements SampleJobOfferResponse {
         assertThat(throwable).isInstanceOf(ResponseStatusException.class);
         assertThat(throwable.getMessage()).isEqualTo("401 UNAUTHORIZED");
     }
-}
 
+    @Test
+    void should_stream_offers_in_chunks_of_given_size() {
+        // given
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SC_OK)
+                        .withHeader(CONTENT_TYPE_HEADER_KEY, APPLICATION_JSON_CONTENT_TYPE_VALUE)
+                        .withBody(bodyWithFourOffersJson())));
+        List<List<JobOfferResponse>> chunks = new ArrayList<>();
+
+        // when
+        remoteOfferClient.fetchOffers(3, chunks::add);
+
+        // then
+        assertThat(chunks).extracting(List::size).containsExactly(3, 1);
+    }
+
+    @Test
+    void should_throw_exception_500_when_streamed_response_is_random_data() {
+        // given
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SC_OK)
+                        .withHeader(CONTENT_TYPE_HEADER_KEY, APPLICATION_JSON_CONTENT_TYPE_VALUE)
+                        .withFault(Fault.RANDOM_DATA_THEN_CLOSE)));
+
+        // when
+        Throwable throwable = catchThrowable(() -> remoteOfferClient.fetchOffers(3, chunk -> {
+        }));
+
+        // then
+        assertThat(throwable).isInstanceOf(ResponseStatusException.class);
+        assertThat(throwable.getMessage()).isEqualTo("500 INTERNAL_SERVER_ERROR");
+    }
+
+    @Test
+    void should_skip_streaming_when_upstream_returns_304_for_known_etag() {
+        // given
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SC_OK)
+                        .withHeader(CONTENT_TYPE_HEADER_KEY, APPLICATION_JSON_CONTENT_TYPE_VALUE)
+                        .withHeader("ETag", "\"offers-v1\"")
+                        .withBody(bodyWithFourOffersJson())));
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .withHeader("If-None-Match", WireMock.equalTo("\"offers-v1\""))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SC_NOT_MODIFIED)));
+        List<List<JobOfferResponse>> firstRunChunks = new ArrayList<>();
+        List<List<JobOfferResponse>> secondRunChunks = new ArrayList<>();
+
+        // when
+        remoteOfferClient.fetchOffers(3, firstRunChunks::add);
+        remoteOfferClient.commitFetchedOffers();
+        remoteOfferClient.fetchOffers(3, secondRunChunks::add);
+
+        // then
+        assertThat(firstRunChunks).extracting(List::size).containsExactly(3, 1);
+        assertThat(secondRunChunks).isEmpty();
+        wireMockServer.verify(1, WireMock.getRequestedFor(WireMock.urlEqualTo("/offers"))
+                .withHeader("If-None-Match", WireMock.equalTo("\"offers-v1\"")));
+    }
+
+    @Test
+    void should_reuse_etag_stored_as_received_after_client_restart() {
+        // given
+        InMemoryOfferFeedValidatorsStore validatorsStore = new InMemoryOfferFeedValidatorsStore();
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SC_OK)
+                        .withHeader(CONTENT_TYPE_HEADER_KEY, APPLICATION_JSON_CONTENT_TYPE_VALUE)
+                        .withHeader("ETag", "\"offers-v1\"")
+                        .withBody(bodyWithFourOffersJson())));
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .withHeader("If-None-Match", WireMock.equalTo("\"offers-v1\""))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SC_NOT_MODIFIED)));
+        OfferHttpClientTestConfig testConfig = new OfferHttpClientTestConfig();
+        List<List<JobOfferResponse>> restartedClientChunks = new ArrayList<>();
+
+        // when
+        OfferFetchable firstClient = testConfig.remoteOfferTestClient(wireMockServer.getPort(), 1000, 1000,
+                validatorsStore);
+        firstClient.fetchOffers(3, chunk -> {
+        });
+        firstClient.commitFetchedOffers();
+        boolean completeFeed = testConfig.remoteOfferTestClient(wireMockServer.getPort(), 1000, 1000, validatorsStore)
+                .fetchOffers(3, restartedClientChunks::add);
+
+        // then
+        assertThat(completeFeed).isFalse();
+        assertThat(restartedClientChunks).isEmpty();
+        assertThat(validatorsStore.findBySource("test")).get()
+                .extracting(OfferFeedValidators::etag)
+                .isEqualTo("\"offers-v1--gzip\"");
+    }
+
+    @Test
+    void should_send_weak_etag_back_unchanged() {
+        // given
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SC_OK)
+                        .withHeader(CONTENT_TYPE_HEADER_KEY, APPLICATION_JSON_CONTENT_TYPE_VALUE)
+                        .withHeader("ETag", "W/\"offers-v1\"")
+                        .withBody(bodyWithFourOffersJson())));
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .withHeader("If-None-Match", WireMock.equalTo("W/\"offers-v1\""))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SC_NOT_MODIFIED)));
+        List<List<JobOfferResponse>> secondRunChunks = new ArrayList<>();
+
+        // when
+        remoteOfferClient.fetchOffers(3, chunk -> {
+        });
+        remoteOfferClient.commitFetchedOffers();
+        boolean completeFeed = remoteOfferClient.fetchOffers(3, secondRunChunks::add);
+
+        // then
+        assertThat(completeFeed).isFalse();
+        assertThat(secondRunChunks).isEmpty();
+    }
+
+    @Test
+    void should_not_store_etag_until_fetched_offers_are_committed() {
+        // given
+        InMemoryOfferFeedValidatorsStore validatorsStore = new InMemoryOfferFeedValidatorsStore();
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SC_OK)
+                        .withHeader(CONTENT_TYPE_HEADER_KEY, APPLICATION_JSON_CONTENT_TYPE_VALUE)
+                        .withHeader("ETag", "\"offers-v1\"")
+                        .withBody(bodyWithFourOffersJson())));
+        OfferFetchable client = new OfferHttpClientTestConfig()
+                .remoteOfferTestClient(wireMockServer.getPort(), 1000, 1000, validatorsStore);
+        List<List<JobOfferResponse>> secondRunChunks = new ArrayList<>();
+
+        // when
+        client.fetchOffers(3, chunk -> {
+        });
+        client.fetchOffers(3, secondRunChunks::add);
+
+        // then
+        assertThat(validatorsStore.findBySource("test")).isEmpty();
+        assertThat(secondRunChunks).extracting(List::size).containsExactly(3, 1);
+        wireMockServer.verify(0, WireMock.getRequestedFor(WireMock.urlEqualTo("/offers"))
+                .withHeader("If-None-Match", WireMock.matching(".*")));
+    }
+
+    @Test
+    void should_send_if_modified_since_when_upstream_returns_last_modified() {
+        // given
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SC_OK)
+                        .withHeader(CONTENT_TYPE_HEADER_KEY, APPLICATION_JSON_CONTENT_TYPE_VALUE)
+                        .withHeader("Last-Modified", "Wed, 21 Oct 2015 07:28:00 GMT")
+                        .withBody(bodyWithFourOffersJson())));
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .withHeader("If-Modified-Since", WireMock.equalTo("Wed, 21 Oct 2015 07:28:00 GMT"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SC_NOT_MODIFIED)));
+        List<List<JobOfferResponse>> secondRunChunks = new ArrayList<>();
+
+        // when
+        remoteOfferClient.fetchOffers(3, chunk -> {
+        });
+        remoteOfferClient.commitFetchedOffers();
+        remoteOfferClient.fetchOffers(3, secondRunChunks::add);
+
+        // then
+        assertThat(secondRunChunks).isEmpty();
+    }
+
+    @Test
+    void should_skip_streaming_when_payload_without_validators_did_not_change() {
+        // given
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SC_OK)
+                        .withHeader(CONTENT_TYPE_HEADER_KEY, APPLICATION_JSON_CONTENT_TYPE_VALUE)
+                        .withBody(bodyWithFourOffersJson())));
+        List<List<JobOfferResponse>> firstRunChunks = new ArrayList<>();
+        List<List<JobOfferResponse>> secondRunChunks = new ArrayList<>();
+
+        // when
+        remoteOfferClient.fetchOffers(3, firstRunChunks::add);
+        remoteOfferClient.commitFetchedOffers();
+        remoteOfferClient.fetchOffers(3, secondRunChunks::add);
+
+        // then
+        assertThat(firstRunChunks).extracting(List::size).containsExactly(3, 1);
+        assertThat(secondRunChunks).isEmpty();
+    }
+
+    @Test
+    void should_stream_again_when_payload_without_validators_changed() {
+        // given
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SC_OK)
+                        .withHeader(CONTENT_TYPE_HEADER_KEY, APPLICATION_JSON_CONTENT_TYPE_VALUE)
+                        .withBody(bodyWithOneOfferJson())));
+        remoteOfferClient.fetchOffers(3, chunk -> {
+        });
+        remoteOfferClient.commitFetchedOffers();
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SC_OK)
+                        .withHeader(CONTENT_TYPE_HEADER_KEY, APPLICATION_JSON_CONTENT_TYPE_VALUE)
+                        .withBody(bodyWithFourOffersJson())));
+        List<List<JobOfferResponse>> secondRunChunks = new ArrayList<>();
+
+        // when
+        remoteOfferClient.fetchOffers(3, secondRunChunks::add);
+
+        // then
+        assertThat(secondRunChunks).extracting(List::size).containsExactly(3, 1);
+    }
+
+    @Test
+    void should_request_and_decode_gzip_compressed_offers() {
+        // given
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .withHeader("Accept-Encoding", WireMock.containing("gzip"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SC_OK)
+                        .withHeader(CONTENT_TYPE_HEADER_KEY, APPLICATION_JSON_CONTENT_TYPE_VALUE)
+                        .withBody(bodyWithFourOffersJson())));
+
+        // when
+        List<JobOfferResponse> offers = remoteOfferClient.fetchOffers();
+
+        // then
+        assertThat(offers).hasSize(4);
+    }
+}
@@ -1,15 +1,33 @@
 package com.junioroffers.http.error;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.junioroffers.domain.offer.OfferFetchable;
+import com.junioroffers.infrastructure.offer.http.OfferFeedValidatorsStore;
 import com.junioroffers.infrastructure.offer.http.OfferHttpClientConfig;
+import com.junioroffers.infrastructure.offer.http.OfferHttpPoolProperties;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.util.Map;
+
 import static com.junioroffers.BaseIntegrationTest.WIRE_MOCK_HOST;
 
 public class OfferHttpClientTestConfig extends OfferHttpClientConfig {
 
+    public static final OfferHttpPoolProperties TEST_POOL_PROPERTIES = new OfferHttpPoolProperties(
+            10, 5, Duration.ofSeconds(30), Duration.ofSeconds(60), Duration.ofSeconds(2), Duration.ofSeconds(1), Map.of());
+
     public OfferFetchable remoteOfferTestClient(int port, int connectionTimeout, int readTimeout) {
-        final RestTemplate restTemplate = restTemplate(connectionTimeout, readTimeout, restTemplateResponseErrorHandler());
-        return remoteOfferClient(restTemplate, WIRE_MOCK_HOST, port);
+        return remoteOfferTestClient(port, connectionTimeout, readTimeout, new InMemoryOfferFeedValidatorsStore());
+    }
+
+    public OfferFetchable remoteOfferTestClient(int port, int connectionTimeout, int readTimeout,
+                                                OfferFeedValidatorsStore validatorsStore) {
+        final CloseableHttpClient httpTransport = offerHttpTransport(
+                offerHttpConnectionManager(TEST_POOL_PROPERTIES), TEST_POOL_PROPERTIES);
+        final RestTemplate restTemplate = restTemplate(connectionTimeout, readTimeout, restTemplateResponseErrorHandler(),
+                httpTransport, TEST_POOL_PROPERTIES);
+        return offerHttpClient(restTemplate, new ObjectMapper(), validatorsStore, "test", WIRE_MOCK_HOST, port);
     }
 }
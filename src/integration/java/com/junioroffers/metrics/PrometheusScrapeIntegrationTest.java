@@ -0,0 +1,55 @@
+package com.junioroffers.metrics;
+
+import com.junioroffers.BaseIntegrationTest;
+import com.junioroffers.infrastructure.loginandregister.controller.dto.JwtResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class PrometheusScrapeIntegrationTest extends BaseIntegrationTest {
+
+    @Test
+    public void should_expose_facade_jwt_and_mongo_metrics_only_to_authenticated_scrape_on_application_port() throws Exception {
+        // given
+        String credentials = """
+                {
+                "username": "metricsUser",
+                "password": "somePassword"
+                }
+                """.trim();
+        mockMvc.perform(post("/register")
+                        .content(credentials)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isCreated());
+        String json = mockMvc.perform(post("/token")
+                        .content(credentials)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readValue(json, JwtResponseDto.class).token();
+        mockMvc.perform(get("/offers")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // when
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+        String scrape = mockMvc.perform(get("/actuator/prometheus")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        assertThat(scrape)
+                .contains("offers_facade_seconds_count")
+                .contains("method=\"findAllOffers\"")
+                .contains("auth_jwt_verification_seconds_count")
+                .contains("auth_jwt_cache_gets_total")
+                .contains("mongodb_driver_commands_seconds_count")
+                .contains("http_server_requests_seconds_count");
+    }
+}
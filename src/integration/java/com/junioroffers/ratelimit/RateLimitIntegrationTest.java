@@ -0,0 +1,78 @@
+package com.junioroffers.ratelimit;
+
+import com.junioroffers.BaseIntegrationTest;
+import com.junioroffers.infrastructure.loginandregister.controller.dto.JwtResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class RateLimitIntegrationTest extends BaseIntegrationTest {
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+        registry.add("rate-limit.rules[0].name", () -> "offers-read");
+        registry.add("rate-limit.rules[0].method", () -> "GET");
+        registry.add("rate-limit.rules[0].path", () -> "/offers/**");
+        registry.add("rate-limit.rules[0].capacity", () -> 2);
+        registry.add("rate-limit.rules[0].period", () -> "PT1H");
+    }
+
+    @Test
+    public void should_reject_requests_over_the_limit_of_one_client_with_429_and_rate_limit_headers() throws Exception {
+        // given
+        String firstUserToken = tokenFor("firstLimitedUser");
+        String secondUserToken = tokenFor("secondLimitedUser");
+
+        // when & then
+        getOffers(firstUserToken)
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Limit", "2"))
+                .andExpect(header().string("RateLimit-Remaining", "1"));
+        getOffers(firstUserToken)
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Remaining", "0"));
+        getOffers(firstUserToken)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("RateLimit-Remaining", "0"))
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.status").value("TOO_MANY_REQUESTS"));
+        getOffers(secondUserToken)
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Remaining", "1"));
+    }
+
+    private ResultActions getOffers(String token) throws Exception {
+        return mockMvc.perform(get("/offers")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON_VALUE));
+    }
+
+    private String tokenFor(String username) throws Exception {
+        String credentials = """
+                {
+                "username": "%s",
+                "password": "somePassword"
+                }
+                """.formatted(username).trim();
+        mockMvc.perform(post("/register")
+                        .content(credentials)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isCreated());
+        String json = mockMvc.perform(post("/token")
+                        .content(credentials)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(json, JwtResponseDto.class).token();
+    }
+}
@@ -0,0 +1,72 @@
+package com.junioroffers.replay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.junioroffers.SampleJobOfferResponse;
+import com.junioroffers.domain.offer.dto.JobOfferResponse;
+import com.junioroffers.infrastructure.offer.replay.ReplayOfferFetcher;
+import com.junioroffers.infrastructure.offer.replay.ReplayOfferFetcherConfig;
+import com.junioroffers.infrastructure.offer.replay.ReplayOfferProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplayOfferFetcherIntegrationTest implements SampleJobOfferResponse {
+
+    @TempDir
+    Path payloadDirectory;
+
+    @Test
+    void should_replay_captured_offers_from_payload_file() throws IOException {
+        // given
+        ReplayOfferFetcher fetcher = replayFetcher(1, 0);
+
+        // when
+        List<JobOfferResponse> offers = fetcher.fetchOffers();
+
+        // then
+        assertThat(offers).extracting(JobOfferResponse::company).containsExactly("Cybersource", "CDQ Poland");
+    }
+
+    @Test
+    void should_synthesize_unique_offers_when_scale_factor_is_greater_than_one() throws IOException {
+        // given
+        ReplayOfferFetcher fetcher = replayFetcher(3, 0);
+
+        // when
+        List<JobOfferResponse> offers = fetcher.fetchOffers();
+
+        // then
+        assertThat(offers).hasSize(6);
+        assertThat(offers).extracting(JobOfferResponse::offerUrl).doesNotHaveDuplicates();
+        assertThat(offers).extracting(JobOfferResponse::company).containsOnly("Cybersource", "CDQ Poland");
+    }
+
+    @Test
+    void should_replay_offers_no_faster_than_configured_rate() throws IOException {
+        // given
+        ReplayOfferFetcher fetcher = replayFetcher(3, 10);
+        List<JobOfferResponse> offers = new ArrayList<>();
+        long startedAt = System.nanoTime();
+
+        // when
+        fetcher.fetchOffers(2, offers::addAll);
+
+        // then
+        assertThat(offers).hasSize(6);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(400));
+    }
+
+    private ReplayOfferFetcher replayFetcher(int scaleFactor, double offersPerSecond) throws IOException {
+        Path payload = Files.writeString(payloadDirectory.resolve("offers.json"), bodyWithTwoOffersJson());
+        ReplayOfferProperties properties = new ReplayOfferProperties(List.of(payload.toString()), scaleFactor, offersPerSecond);
+        return new ReplayOfferFetcherConfig().replayOfferFetcher(properties, new ObjectMapper());
+    }
+}
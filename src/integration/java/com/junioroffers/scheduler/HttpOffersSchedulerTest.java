@@ -7,6 +7,8 @@ import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
@@ -20,6 +22,6 @@ public class HttpOffersSchedulerTest extends BaseIntegrationTest {
     @Test
     public void should_run_http_client_offers_fetching_exactly_given_times() {
         await().atMost(Duration.ofSeconds(2))
-                .untilAsserted(() -> verify(remoteOfferClient, times(1)).fetchOffers());
+                .untilAsserted(() -> verify(remoteOfferClient, times(1)).fetchOffers(anyInt(), any()));
     }
 }
@@ -0,0 +1,125 @@
+package com.junioroffers.scheduler;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.junioroffers.JobOffersApplication;
+import com.junioroffers.SampleJobOfferResponse;
+import com.junioroffers.domain.offer.dto.OfferResponseDto;
+import com.junioroffers.infrastructure.offer.scheduler.HttpOffersScheduler;
+import com.junioroffers.infrastructure.offer.scheduler.IngestionLease;
+import com.junioroffers.infrastructure.offer.scheduler.IngestionLeaseManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.junioroffers.BaseIntegrationTest.WIRE_MOCK_HOST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@Testcontainers
+public class IngestionLeaseIntegrationTest implements SampleJobOfferResponse {
+
+    @Container
+    public static final MongoDBContainer mongoDBContainer = new MongoDBContainer(DockerImageName.parse("mongo:4.2.2"));
+
+    @RegisterExtension
+    public static WireMockExtension wireMockServer = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    static ConfigurableApplicationContext firstNode;
+    static ConfigurableApplicationContext secondNode;
+
+    @BeforeAll
+    static void startNodes() {
+        firstNode = startNode();
+        secondNode = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        secondNode.close();
+        firstNode.close();
+    }
+
+    @Test
+    void should_run_ingestion_cycle_on_one_node_only_when_both_nodes_fire_at_once() {
+        // given
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .willReturn(WireMock.okJson(bodyWithTwoOffersJson()).withFixedDelay(1000)));
+
+        // when
+        CompletableFuture<List<OfferResponseDto>> firstRun = CompletableFuture.supplyAsync(
+                () -> firstNode.getBean(HttpOffersScheduler.class).fetchAllOffersAndSaveAllIfNotExists());
+        CompletableFuture<List<OfferResponseDto>> secondRun = CompletableFuture.supplyAsync(
+                () -> secondNode.getBean(HttpOffersScheduler.class).fetchAllOffersAndSaveAllIfNotExists());
+
+        // then
+        assertThat(firstRun.join().size() + secondRun.join().size()).isEqualTo(2);
+        wireMockServer.verify(1, WireMock.getRequestedFor(WireMock.urlEqualTo("/offers")));
+    }
+
+    @Test
+    void should_hand_over_expired_lease_with_higher_fencing_token() {
+        // given
+        IngestionLeaseManager firstNodeLeases = firstNode.getBean(IngestionLeaseManager.class);
+        IngestionLeaseManager secondNodeLeases = secondNode.getBean(IngestionLeaseManager.class);
+        IngestionLease firstLease = firstNodeLeases.tryAcquire().orElseThrow();
+        assertThat(secondNodeLeases.tryAcquire()).isEmpty();
+
+        // when
+        IngestionLease secondLease = await().atMost(Duration.ofSeconds(5))
+                .until(() -> secondNodeLeases.tryAcquire().orElse(null), lease -> lease != null);
+        firstNodeLeases.release(firstLease);
+
+        // then
+        assertThat(secondLease.fencingToken()).isGreaterThan(firstLease.fencingToken());
+        assertThat(firstNodeLeases.isHeld(firstLease)).isFalse();
+        assertThat(secondNodeLeases.isHeld(secondLease)).isTrue();
+        secondNodeLeases.release(secondLease);
+    }
+
+    @Test
+    void should_keep_lease_of_run_longer_than_ttl_while_heartbeat_is_active() throws InterruptedException {
+        // given
+        IngestionLeaseManager firstNodeLeases = firstNode.getBean(IngestionLeaseManager.class);
+        IngestionLeaseManager secondNodeLeases = secondNode.getBean(IngestionLeaseManager.class);
+        IngestionLease lease = firstNodeLeases.tryAcquire().orElseThrow();
+
+        // when
+        ScheduledFuture<?> heartbeat = firstNodeLeases.keepAlive(lease);
+        Thread.sleep(3000);
+
+        // then
+        assertThat(firstNodeLeases.isHeld(lease)).isTrue();
+        assertThat(secondNodeLeases.tryAcquire()).isEmpty();
+        heartbeat.cancel(false);
+        firstNodeLeases.release(lease);
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(JobOffersApplication.class)
+                .profiles("integration")
+                .properties(
+                        "server.port=0",
+                        "scheduling.enabled=false",
+                        "spring.data.mongodb.uri=" + mongoDBContainer.getReplicaSetUrl(),
+                        "offer.http.client.config.uri=" + WIRE_MOCK_HOST,
+                        "offer.http.client.config.port=" + wireMockServer.getPort(),
+                        "http.offers.scheduler.lease.ttl=PT2S")
+                .run();
+    }
+}
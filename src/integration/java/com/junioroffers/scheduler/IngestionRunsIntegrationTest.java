@@ -0,0 +1,74 @@
+package com.junioroffers.scheduler;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.junioroffers.BaseIntegrationTest;
+import com.junioroffers.SampleJobOfferResponse;
+import com.junioroffers.infrastructure.offer.scheduler.IngestionRunStatus;
+import com.junioroffers.infrastructure.offer.scheduler.IngestionRunTrigger;
+import com.junioroffers.infrastructure.offer.scheduler.controller.IngestionEndpoint;
+import com.junioroffers.infrastructure.offer.scheduler.controller.dto.IngestionScheduleResponseDto;
+import com.junioroffers.infrastructure.offer.scheduler.controller.dto.IngestionTriggerResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class IngestionRunsIntegrationTest extends BaseIntegrationTest implements SampleJobOfferResponse {
+
+    @Autowired
+    IngestionEndpoint ingestionEndpoint;
+
+    @Test
+    @WithMockUser
+    public void should_not_let_users_trigger_ingestion_on_application_port() throws Exception {
+        // when
+        mockMvc.perform(post("/actuator/ingestion"))
+                // then
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser
+    public void should_coalesce_manual_trigger_with_ingestion_in_progress_and_record_single_run() throws Exception {
+        // given
+        wireMockServer.stubFor(WireMock.get("/offers")
+                .willReturn(WireMock.okJson(bodyWithTwoOffersJson()).withFixedDelay(1000)));
+        int recordedRuns = findIngestionRuns().runs().size();
+
+        // when
+        IngestionTriggerResponseDto firstTrigger = triggerIngestion();
+        IngestionTriggerResponseDto secondTrigger = triggerIngestion();
+
+        // then
+        assertThat(firstTrigger.started()).isTrue();
+        assertThat(secondTrigger.started()).isFalse();
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> !findIngestionRuns().running());
+        IngestionScheduleResponseDto schedule = findIngestionRuns();
+        assertThat(schedule.runs()).hasSize(recordedRuns + 1);
+        assertThat(schedule.runs().get(0).trigger()).isEqualTo(IngestionRunTrigger.MANUAL);
+        assertThat(schedule.runs().get(0).status()).isEqualTo(IngestionRunStatus.SUCCEEDED);
+        assertThat(schedule.runs().get(0).addedOffers()).isEqualTo(2);
+        wireMockServer.verify(1, WireMock.getRequestedFor(WireMock.urlEqualTo("/offers")));
+    }
+
+    private IngestionTriggerResponseDto triggerIngestion() {
+        return ingestionEndpoint.triggerIngestion().getBody();
+    }
+
+    private IngestionScheduleResponseDto findIngestionRuns() throws Exception {
+        String json = mockMvc.perform(get("/ingestion/runs"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readValue(json, IngestionScheduleResponseDto.class);
+    }
+}
@@ -0,0 +1,97 @@
+package com.junioroffers.security;
+
+import com.junioroffers.BaseIntegrationTest;
+import com.junioroffers.domain.loginandregister.LoginAndRegisterFacade;
+import com.junioroffers.domain.loginandregister.dto.RegisterUserDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class PasswordHashingIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    LoginAndRegisterFacade loginAndRegisterFacade;
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+        registry.add("auth.password.strength", () -> 12);
+        registry.add("auth.password.pool-size", () -> 1);
+        registry.add("auth.password.queue-capacity", () -> 1);
+    }
+
+    @Test
+    public void should_shed_registrations_with_429_and_retry_after_when_hashing_queue_is_full() {
+        // given
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        // when
+        List<CompletableFuture<MvcResult>> registrations = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> register("burstUser" + i, startGate)))
+                .toList();
+        startGate.countDown();
+        List<MvcResult> results = registrations.stream().map(CompletableFuture::join).toList();
+
+        // then
+        List<MvcResult> rejected = results.stream()
+                .filter(result -> result.getResponse().getStatus() == HttpStatus.TOO_MANY_REQUESTS.value())
+                .toList();
+        assertThat(rejected).isNotEmpty();
+        assertThat(rejected).allSatisfy(result ->
+                assertThat(result.getResponse().getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1"));
+        assertThat(results).anySatisfy(result ->
+                assertThat(result.getResponse().getStatus()).isEqualTo(HttpStatus.CREATED.value()));
+    }
+
+    @Test
+    public void should_rehash_password_with_configured_strength_after_successful_login() throws Exception {
+        // given
+        loginAndRegisterFacade.register(new RegisterUserDto("legacyUser", new BCryptPasswordEncoder(4).encode("somePassword")));
+
+        // when
+        mockMvc.perform(post("/token")
+                        .content("""
+                                {
+                                "username": "legacyUser",
+                                "password": "somePassword"
+                                }
+                                """.trim())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(loginAndRegisterFacade.findByUsername("legacyUser").password()).startsWith("$2a$12$");
+    }
+
+    private MvcResult register(String username, CountDownLatch startGate) {
+        try {
+            startGate.await();
+            return mockMvc.perform(post("/register")
+                            .content("""
+                                    {
+                                    "username": "%s",
+                                    "password": "somePassword"
+                                    }
+                                    """.formatted(username).trim())
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andReturn();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.junioroffers.security;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.junioroffers.BaseIntegrationTest;
+import com.junioroffers.infrastructure.loginandregister.controller.dto.JwtResponseDto;
+import com.junioroffers.infrastructure.security.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class RefreshTokenIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    VerifiedTokenCache verifiedTokenCache;
+
+    @Test
+    public void should_rotate_refresh_token_without_hashing_password_and_reject_used_token() throws Exception {
+        // given
+        mockMvc.perform(post("/register")
+                        .content("""
+                                {
+                                "username": "refreshUser",
+                                "password": "somePassword"
+                                }
+                                """.trim())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isCreated());
+        JwtResponseDto login = readTokens(mockMvc.perform(post("/token")
+                        .content("""
+                                {
+                                "username": "refreshUser",
+                                "password": "somePassword"
+                                }
+                                """.trim())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isOk()));
+        long hashingsBeforeRefresh = passwordHashings();
+
+        // when
+        JwtResponseDto refreshed = readTokens(refresh(login.refreshToken())
+                .andExpect(status().isOk()));
+
+        // then
+        assertThat(refreshed.username()).isEqualTo("refreshUser");
+        assertThat(refreshed.refreshToken()).isNotBlank().isNotEqualTo(login.refreshToken());
+        assertThat(passwordHashings()).isEqualTo(hashingsBeforeRefresh);
+        mockMvc.perform(get("/offers")
+                        .header("Authorization", "Bearer " + refreshed.token()))
+                .andExpect(status().isOk());
+        refresh(login.refreshToken())
+                .andExpect(status().isUnauthorized());
+        refresh(refreshed.refreshToken())
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void should_reject_access_and_refresh_token_after_revocation() throws Exception {
+        // given
+        mockMvc.perform(post("/register")
+                        .content("""
+                                {
+                                "username": "revokedUser",
+                                "password": "somePassword"
+                                }
+                                """.trim())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isCreated());
+        JwtResponseDto login = readTokens(mockMvc.perform(post("/token")
+                        .content("""
+                                {
+                                "username": "revokedUser",
+                                "password": "somePassword"
+                                }
+                                """.trim())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isOk()));
+        assertThat(verifiedTokenCache.verifiedSubject(login.token())).isEqualTo("revokedUser");
+
+        // when
+        mockMvc.perform(post("/token/revoke")
+                        .header("Authorization", "Bearer " + login.token())
+                        .content("""
+                                {
+                                "refreshToken": "%s"
+                                }
+                                """.formatted(login.refreshToken()).trim())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isNoContent());
+
+        // then
+        assertThat(catchThrowable(() -> verifiedTokenCache.verifiedSubject(login.token())))
+                .isInstanceOf(JWTVerificationException.class);
+        refresh(login.refreshToken())
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void should_reject_unknown_refresh_token_with_401() throws Exception {
+        refresh("unknownRefreshToken")
+                .andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/token/refresh")
+                .content("""
+                        {
+                        "refreshToken": "%s"
+                        }
+                        """.formatted(refreshToken).trim())
+                .contentType(MediaType.APPLICATION_JSON_VALUE));
+    }
+
+    private JwtResponseDto readTokens(ResultActions resultActions) throws Exception {
+        String json = resultActions.andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(json, JwtResponseDto.class);
+    }
+
+    private long passwordHashings() {
+        return meterRegistry.find("auth.password.hashing").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+}
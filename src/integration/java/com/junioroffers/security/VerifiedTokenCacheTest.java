@@ -0,0 +1,194 @@
+package com.junioroffers.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
+import com.junioroffers.infrastructure.security.jwt.JwtConfiguration;
+import com.junioroffers.infrastructure.security.jwt.JwtConfigurationProperties;
+import com.junioroffers.infrastructure.security.jwt.TokenDenyList;
+import com.junioroffers.infrastructure.security.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class VerifiedTokenCacheTest {
+
+    private static final JwtConfigurationProperties PROPERTIES =
+            new JwtConfigurationProperties("test-secret", Duration.ofMinutes(15), Duration.ofDays(30), "job-offers-backend", 100);
+
+    JwtConfiguration jwtConfiguration = new JwtConfiguration();
+    Algorithm algorithm = jwtConfiguration.jwtAlgorithm(PROPERTIES);
+    CountingVerifier verifier = new CountingVerifier(jwtConfiguration.jwtVerifier(algorithm, new SimpleMeterRegistry()));
+    MutableClock clock = new MutableClock(Instant.now());
+    TokenDenyList tokenDenyList = jwtConfiguration.tokenDenyList(clock);
+    VerifiedTokenCache verifiedTokenCache = jwtConfiguration.verifiedTokenCache(verifier, tokenDenyList, PROPERTIES, clock);
+
+    @Test
+    void should_verify_signature_only_once_for_repeated_token() {
+        // given
+        String token = tokenFor("someUser", Duration.ofHours(1));
+
+        // when
+        String firstSubject = verifiedTokenCache.verifiedSubject(token);
+        String secondSubject = verifiedTokenCache.verifiedSubject(token);
+
+        // then
+        assertThat(firstSubject).isEqualTo("someUser");
+        assertThat(secondSubject).isEqualTo("someUser");
+        assertThat(verifier.verifications).isEqualTo(1);
+    }
+
+    @Test
+    void should_verify_token_again_when_cached_token_has_expired() {
+        // given
+        String token = tokenFor("someUser", Duration.ofHours(1));
+        verifiedTokenCache.verifiedSubject(token);
+
+        // when
+        clock.advance(Duration.ofHours(2));
+        verifiedTokenCache.verifiedSubject(token);
+
+        // then
+        assertThat(verifier.verifications).isEqualTo(2);
+    }
+
+    @Test
+    void should_not_cache_token_with_invalid_signature() {
+        // given
+        String token = JWT.create()
+                .withSubject("someUser")
+                .withExpiresAt(Instant.now().plus(Duration.ofHours(1)))
+                .sign(Algorithm.HMAC256("other-secret"));
+
+        // when
+        Throwable firstFailure = catchThrowable(() -> verifiedTokenCache.verifiedSubject(token));
+        Throwable secondFailure = catchThrowable(() -> verifiedTokenCache.verifiedSubject(token));
+
+        // then
+        assertThat(firstFailure).isInstanceOf(JWTVerificationException.class);
+        assertThat(secondFailure).isInstanceOf(JWTVerificationException.class);
+        assertThat(verifier.verifications).isEqualTo(2);
+    }
+
+    @Test
+    void should_reject_revoked_token_even_when_already_cached() {
+        // given
+        String tokenId = UUID.randomUUID().toString();
+        String token = tokenFor("someUser", tokenId, Duration.ofHours(1));
+        verifiedTokenCache.verifiedSubject(token);
+
+        // when
+        tokenDenyList.revoke(tokenId, clock.instant().plus(Duration.ofHours(1)));
+        Throwable failure = catchThrowable(() -> verifiedTokenCache.verifiedSubject(token));
+
+        // then
+        assertThat(failure).isInstanceOf(JWTVerificationException.class);
+        assertThat(verifier.verifications).isEqualTo(1);
+    }
+
+    @Test
+    void should_accept_tokens_that_were_not_revoked() {
+        // given
+        tokenDenyList.revoke(UUID.randomUUID().toString(), clock.instant().plus(Duration.ofHours(1)));
+        String token = tokenFor("someUser", UUID.randomUUID().toString(), Duration.ofHours(1));
+
+        // when
+        String subject = verifiedTokenCache.verifiedSubject(token);
+
+        // then
+        assertThat(subject).isEqualTo("someUser");
+    }
+
+    @Test
+    void should_prune_revoked_tokens_once_they_have_expired() {
+        // given
+        String tokenId = UUID.randomUUID().toString();
+        tokenDenyList.revoke(tokenId, clock.instant().plus(Duration.ofHours(1)));
+        tokenDenyList.revoke(UUID.randomUUID().toString(), clock.instant().plus(Duration.ofHours(3)));
+
+        // when
+        clock.advance(Duration.ofHours(2));
+        int prunedTokens = tokenDenyList.prune();
+
+        // then
+        assertThat(prunedTokens).isEqualTo(1);
+        assertThat(tokenDenyList.size()).isEqualTo(1);
+        assertThat(tokenDenyList.isRevoked(tokenId)).isFalse();
+    }
+
+    private String tokenFor(String subject, Duration timeToLive) {
+        return tokenFor(subject, null, timeToLive);
+    }
+
+    private String tokenFor(String subject, String tokenId, Duration timeToLive) {
+        JWTCreator.Builder token = JWT.create()
+                .withSubject(subject)
+                .withIssuedAt(Instant.now())
+                .withExpiresAt(Instant.now().plus(timeToLive))
+                .withIssuer(PROPERTIES.issuer());
+        if (tokenId != null) {
+            token.withJWTId(tokenId);
+        }
+        return token.sign(algorithm);
+    }
+
+    private static class CountingVerifier implements JWTVerifier {
+        private final JWTVerifier delegate;
+        private int verifications;
+
+        CountingVerifier(JWTVerifier delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public DecodedJWT verify(String token) throws JWTVerificationException {
+            verifications++;
+            return delegate.verify(token);
+        }
+
+        @Override
+        public DecodedJWT verify(DecodedJWT jwt) throws JWTVerificationException {
+            verifications++;
+            return delegate.verify(jwt);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.junioroffers.domain.offer;
+
+import com.junioroffers.domain.offer.dto.JobOfferResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class OfferIngestionBenchmark {
+    private static final int BATCH_SIZE = 500;
+    private static final int QUEUE_CAPACITY = 4;
+
+    @Param({"100", "1000", "10000"})
+    public int offers;
+
+    @Param({"0.5"})
+    public double existingRatio;
+
+    private List<JobOfferResponse> fetchedOffers;
+    private OfferService offerService;
+
+    @Setup(Level.Trial)
+    public void prepareFetchedOffers() {
+        fetchedOffers = IntStream.range(0, offers)
+                .mapToObj(i -> new JobOfferResponse("Junior Java Developer " + i, "Company " + i, "8k - 14k PLN",
+                        "https://offers.pl/job/" + i))
+                .toList();
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareRepository() {
+        final InMemoryOfferRepository offerRepository = new InMemoryOfferRepository();
+        final OfferUrlFilter offerUrlFilter = new OfferUrlFilter(offers * 2L, 0.01);
+        fetchedOffers.stream()
+                .limit((long) (offers * existingRatio))
+                .map(OfferMapper::mapFromJobOfferResponseToOffer)
+                .forEach(offer -> offerUrlFilter.put(offerRepository.save(offer).offerUrl()));
+        offerService = new OfferService(new InMemoryFetcherTestImpl(fetchedOffers),
+                new OfferIngestionPipeline(offerRepository, offerUrlFilter, Clock.systemUTC(), BATCH_SIZE,
+                        QUEUE_CAPACITY, 1, 1, 1));
+    }
+
+    @Benchmark
+    public Object fetchAllOffersAndSaveAllIfNotExist() {
+        return offerService.fetchAllOffersAndSaveAllIfNotExist(() -> true);
+    }
+}
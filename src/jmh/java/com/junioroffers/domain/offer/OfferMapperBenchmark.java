@@ -0,0 +1,46 @@
+package com.junioroffers.domain.offer;
+
+import com.junioroffers.domain.offer.dto.JobOfferResponse;
+import com.junioroffers.domain.offer.dto.OfferResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class OfferMapperBenchmark {
+    private JobOfferResponse jobOfferResponse;
+    private Offer offer;
+
+    @Setup
+    public void setUp() {
+        jobOfferResponse = new JobOfferResponse("Junior Java Developer", "Cybersource", "4k - 8k PLN",
+                "https://nofluffjobs.com/pl/job/junior-java-developer-cybersource-poznan-entavdpn");
+        offer = OfferMapper.mapFromJobOfferResponseToOffer(jobOfferResponse).toBuilder()
+                .id("63d2a8f1c5e4a1b2c3d4e5f6")
+                .build();
+    }
+
+    @Benchmark
+    public Object mapFromJobOfferResponseToOffer() {
+        return OfferMapper.mapFromJobOfferResponseToOffer(jobOfferResponse);
+    }
+
+    @Benchmark
+    public OfferResponseDto mapFromOfferToOfferDto() {
+        return OfferMapper.mapFromOfferToOfferDto(offer);
+    }
+}
@@ -0,0 +1,55 @@
+package com.junioroffers.infrastructure.offer.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.junioroffers.domain.offer.dto.OfferResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class OfferResponseSerializationBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int offers;
+
+    private ObjectMapper objectMapper;
+    private List<OfferResponseDto> offerResponses;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        offerResponses = IntStream.range(0, offers)
+                .mapToObj(i -> OfferResponseDto.builder()
+                        .id(String.format("63d2a8f1c5e4a1b2%08x", i))
+                        .companyName("Company " + i)
+                        .position("Junior Java Developer")
+                        .salary("8k - 14k PLN")
+                        .offerUrl("https://offers.pl/job/" + i)
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeOffers() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(offerResponses);
+    }
+}
@@ -0,0 +1,74 @@
+package com.junioroffers.infrastructure.security.jwt;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JwtAuthTokenFilterBenchmark {
+    private static final int REVOKED_TOKENS = 10_000;
+    private static final JwtConfigurationProperties PROPERTIES =
+            new JwtConfigurationProperties("benchmark-secret", Duration.ofMinutes(15), Duration.ofDays(30), "job-offers-backend", 10_000);
+
+    private JwtAuthTokenFilter jwtAuthTokenFilter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        final Instant now = Instant.now();
+        final String token = JWT.create()
+                .withJWTId(UUID.randomUUID().toString())
+                .withSubject("someUser")
+                .withIssuedAt(now)
+                .withExpiresAt(now.plus(PROPERTIES.accessTokenTtl()))
+                .withIssuer(PROPERTIES.issuer())
+                .sign(Algorithm.HMAC256(PROPERTIES.secret()));
+        final JwtConfiguration jwtConfiguration = new JwtConfiguration();
+        final TokenDenyList tokenDenyList = jwtConfiguration.tokenDenyList(Clock.systemUTC());
+        tokenDenyList.addAll(IntStream.range(0, REVOKED_TOKENS)
+                .mapToObj(i -> new RevokedToken(UUID.randomUUID().toString(), now.plus(PROPERTIES.accessTokenTtl())))
+                .toList());
+        jwtAuthTokenFilter = new JwtAuthTokenFilter(jwtConfiguration.verifiedTokenCache(
+                jwtConfiguration.jwtVerifier(jwtConfiguration.jwtAlgorithm(PROPERTIES), new SimpleMeterRegistry()),
+                tokenDenyList, PROPERTIES, Clock.systemUTC()));
+        request = new MockHttpServletRequest("GET", "/offers");
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @Benchmark
+    public Authentication verifyToken() throws ServletException, IOException {
+        jwtAuthTokenFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -1,5 +1,9 @@
 package com.junioroffers;
 
+import com.junioroffers.domain.loginandregister.UserLookupCacheProperties;
+import com.junioroffers.domain.offer.OfferIngestionProperties;
+import com.junioroffers.infrastructure.offer.scheduler.IngestionScheduleProperties;
+import com.junioroffers.infrastructure.offer.scheduler.OfferRetentionProperties;
 import com.junioroffers.infrastructure.security.jwt.JwtConfigurationProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -7,7 +11,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(value = JwtConfigurationProperties.class)
+@EnableConfigurationProperties(value = {JwtConfigurationProperties.class, OfferIngestionProperties.class,
+        IngestionScheduleProperties.class, OfferRetentionProperties.class, UserLookupCacheProperties.class})
 public class  JobOffersApplication {
     public static void main(String[] args) {
         SpringApplication.run(JobOffersApplication.class, args);
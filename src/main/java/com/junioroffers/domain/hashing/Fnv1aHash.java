@@ -0,0 +1,33 @@
+package com.junioroffers.domain.hashing;
+
+public final class Fnv1aHash {
+    public static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private Fnv1aHash() {
+    }
+
+    public static long of(String value) {
+        return append(OFFSET_BASIS, value);
+    }
+
+    public static long append(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = append(hash, value.charAt(i));
+        }
+        return hash;
+    }
+
+    public static long append(long hash, char value) {
+        return (hash ^ value) * PRIME;
+    }
+
+    public static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
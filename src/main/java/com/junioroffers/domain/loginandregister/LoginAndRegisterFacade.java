@@ -5,25 +5,39 @@ import com.junioroffers.domain.loginandregister.dto.RegistrationResultDto;
 import com.junioroffers.domain.loginandregister.dto.UserDto;
 import lombok.AllArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.stereotype.Component;
+
+import java.util.Optional;
 
 @AllArgsConstructor
-@Component
 public class LoginAndRegisterFacade {
     private static final String USER_NOT_FOUND = "User not found";
     private final LoginRepository repository;
+    private final UserLookupCache userLookupCache;
 
     public UserDto findByUsername(String username) {
-        return repository. findByUsername(username)
-                .map(user -> new UserDto(user.id(), user.password(), user.username()))
+        return userLookupCache.findByUsername(username, this::findUser)
+                .orElseThrow(() -> new BadCredentialsException(USER_NOT_FOUND));
+    }
+    public UserDto updatePassword(String username, String encodedPassword) {
+        final User user = repository.findByUsername(username)
                 .orElseThrow(() -> new BadCredentialsException(USER_NOT_FOUND));
+        final User savedUser = repository.save(new User(user.id(), user.username(), encodedPassword));
+        userLookupCache.invalidate(username);
+        return new UserDto(savedUser.id(), savedUser.password(), savedUser.username());
     }
+
     public RegistrationResultDto register(RegisterUserDto registerUserDto) {
         final User user = User.builder()
                 .username(registerUserDto.username())
                 .password(registerUserDto.password())
                 .build();
         User savedUser = repository.save(user);
+        userLookupCache.invalidate(savedUser.username());
         return new RegistrationResultDto(savedUser.id(), true, savedUser.username());
     }
+
+    private Optional<UserDto> findUser(String username) {
+        return repository.findByUsername(username)
+                .map(user -> new UserDto(user.id(), user.password(), user.username()));
+    }
 }
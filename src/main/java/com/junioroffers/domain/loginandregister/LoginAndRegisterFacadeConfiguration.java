@@ -0,0 +1,18 @@
+package com.junioroffers.domain.loginandregister;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LoginAndRegisterFacadeConfiguration {
+
+    @Bean
+    UserLookupCache userLookupCache(UserLookupCacheProperties properties) {
+        return new UserLookupCache(properties.maximumSize(), properties.timeToLive(), properties.negativeTimeToLive());
+    }
+
+    @Bean
+    LoginAndRegisterFacade loginAndRegisterFacade(LoginRepository repository, UserLookupCache userLookupCache) {
+        return new LoginAndRegisterFacade(repository, userLookupCache);
+    }
+}
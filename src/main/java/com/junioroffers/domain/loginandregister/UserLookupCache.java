@@ -0,0 +1,75 @@
+package com.junioroffers.domain.loginandregister;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.junioroffers.domain.loginandregister.dto.UserDto;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+public class UserLookupCache {
+    private final Cache<String, Optional<UserDto>> users;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    UserLookupCache(long maximumSize, Duration timeToLive, Duration negativeTimeToLive) {
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Optional<UserDto>>() {
+                    @Override
+                    public long expireAfterCreate(String username, Optional<UserDto> user, long currentTime) {
+                        return user.isPresent() ? timeToLive.toNanos() : negativeTimeToLive.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String username, Optional<UserDto> user, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(username, user, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String username, Optional<UserDto> user, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long negativeHitCount() {
+        return negativeHits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long size() {
+        return users.estimatedSize();
+    }
+
+    Optional<UserDto> findByUsername(String username, Function<String, Optional<UserDto>> userLoader) {
+        final Optional<UserDto> cachedUser = users.getIfPresent(username);
+        if (cachedUser != null) {
+            hits.increment();
+            if (cachedUser.isEmpty()) {
+                negativeHits.increment();
+            }
+            return cachedUser;
+        }
+        misses.increment();
+        return users.get(username, userLoader);
+    }
+
+    void invalidate(String username) {
+        users.invalidate(username);
+    }
+}
@@ -0,0 +1,18 @@
+package com.junioroffers.domain.loginandregister;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(value = "auth.user-cache")
+public record UserLookupCacheProperties(
+        long maximumSize,
+        Duration timeToLive,
+        Duration negativeTimeToLive
+) {
+    public UserLookupCacheProperties {
+        maximumSize = maximumSize > 0 ? maximumSize : 10_000;
+        timeToLive = timeToLive == null ? Duration.ofMinutes(5) : timeToLive;
+        negativeTimeToLive = negativeTimeToLive == null ? Duration.ofSeconds(30) : negativeTimeToLive;
+    }
+}
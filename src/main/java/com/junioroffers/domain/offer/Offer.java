@@ -6,12 +6,17 @@ import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
-@Builder
+import java.time.Instant;
+
+@Builder(toBuilder = true)
 @Document("offers")
 record Offer(
         @Id String id,
         @Field("company") String companyName,
         @Field("position") String position,
         @Field("salary") String salary,
-        @Field("url") @Indexed(unique = true) String offerUrl) {
+        @Field("url") @Indexed(unique = true) String offerUrl,
+        @Field("hash") Long contentHash,
+        @Field("firstSeen") Instant firstSeen,
+        @Field("lastSeen") @Indexed Instant lastSeen) {
 }
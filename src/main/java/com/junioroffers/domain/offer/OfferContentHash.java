@@ -0,0 +1,24 @@
+package com.junioroffers.domain.offer;
+
+import com.junioroffers.domain.hashing.Fnv1aHash;
+
+final class OfferContentHash {
+    private static final char FIELD_SEPARATOR = '\u001f';
+    private static final char NULL_FIELD = '\u0000';
+
+    private OfferContentHash() {
+    }
+
+    static long of(String companyName, String position, String salary) {
+        long hash = Fnv1aHash.OFFSET_BASIS;
+        hash = append(hash, companyName);
+        hash = append(hash, position);
+        hash = append(hash, salary);
+        return Fnv1aHash.mix(hash);
+    }
+
+    private static long append(long hash, String field) {
+        hash = field == null ? Fnv1aHash.append(hash, NULL_FIELD) : Fnv1aHash.append(hash, field);
+        return Fnv1aHash.append(hash, FIELD_SEPARATOR);
+    }
+}
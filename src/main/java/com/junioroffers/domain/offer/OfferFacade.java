@@ -1,20 +1,34 @@
 package com.junioroffers.domain.offer;
 
+import com.junioroffers.domain.offer.dto.OfferIngestionResultDto;
+import com.junioroffers.domain.offer.dto.OfferPageResponseDto;
 import com.junioroffers.domain.offer.dto.OfferRequestDto;
 import com.junioroffers.domain.offer.dto.OfferResponseDto;
 import lombok.AllArgsConstructor;
-import org.springframework.stereotype.Component;
-import springfox.documentation.annotations.Cacheable;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @AllArgsConstructor
 public class OfferFacade {
+    public static final String OFFERS_CACHE = "jobOffers";
+    public static final int MAX_PAGE_LIMIT = 100;
     private final OfferRepository offerRepository;
     private final OfferService offerService;
+    private final OfferUrlFilter offerUrlFilter;
+    private final Clock clock;
 
-    @Cacheable("jobOffers")
+    @Cacheable(OFFERS_CACHE)
     public List<OfferResponseDto> findAllOffers() {
         return offerRepository.findAll()
                 .stream()
@@ -22,11 +36,47 @@ public class OfferFacade {
                 .collect(Collectors.toList());
     }
 
-    public List<OfferResponseDto> fetchAllOffersAndSaveAllIfNotExist() {
-        return offerService.fetchAllOffersAndSaveAllIfNotExist()
+    public void streamAllOffers(Consumer<OfferResponseDto> offerConsumer) {
+        try (Stream<Offer> offers = offerRepository.streamAllBy()) {
+            offers.map(OfferMapper::mapFromOfferToOfferDto)
+                    .forEach(offerConsumer);
+        }
+    }
+
+    public OfferPageResponseDto findOffersPage(String after, int limit) {
+        final int pageLimit = Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+        final Pageable pageable = PageRequest.of(0, pageLimit + 1);
+        final List<Offer> offers = after == null
+                ? offerRepository.findAllByOrderByIdAsc(pageable)
+                : offerRepository.findByIdGreaterThanOrderByIdAsc(after, pageable);
+        final boolean hasNextPage = offers.size() > pageLimit;
+        final List<OfferResponseDto> page = offers.stream()
+                .limit(pageLimit)
+                .map(OfferMapper::mapFromOfferToOfferDto)
+                .toList();
+        final String nextCursor = hasNextPage ? page.get(page.size() - 1).id() : null;
+        return new OfferPageResponseDto(page, nextCursor);
+    }
+
+    @CacheEvict(value = OFFERS_CACHE, allEntries = true)
+    public OfferIngestionResultDto fetchAllOffersAndSaveAllIfNotExist() {
+        return fetchAllOffersAndSaveAllIfNotExist(() -> true);
+    }
+
+    @CacheEvict(value = OFFERS_CACHE, allEntries = true)
+    public OfferIngestionResultDto fetchAllOffersAndSaveAllIfNotExist(BooleanSupplier ingestionGuard) {
+        final OfferIngestionResult result = offerService.fetchAllOffersAndSaveAllIfNotExist(ingestionGuard);
+        offerRepository.recordFeedRun(result.seenAt(), result.completeFeed());
+        final List<OfferResponseDto> addedOffers = result.savedOffers()
                 .stream()
                 .map(OfferMapper::mapFromOfferToOfferDto)
                 .toList();
+        return new OfferIngestionResultDto(
+                addedOffers,
+                result.fetchedOffers(),
+                result.duplicatedOffers(),
+                result.skippedOffers(),
+                result.updatedOffers());
     }
 
     public OfferResponseDto findOfferById(String id) {
@@ -35,9 +85,29 @@ public class OfferFacade {
                 .orElseThrow(() -> new OfferNotFoundException(id));
     }
 
+    @CacheEvict(value = OFFERS_CACHE, allEntries = true)
     public OfferResponseDto saveOffer(OfferRequestDto offerDto) {
-        final Offer offer = OfferMapper.mapFromOfferDtoToOffer(offerDto);
+        final Offer offer = OfferMapper.mapFromOfferDtoToOffer(offerDto)
+                .toBuilder()
+                .firstSeen(clock.instant())
+                .build();
         final Offer save = offerRepository.save(offer);
+        offerUrlFilter.put(save.offerUrl());
         return OfferMapper.mapFromOfferToOfferDto(save);
     }
+
+    @CacheEvict(value = OFFERS_CACHE, allEntries = true)
+    public long removeOffersNotSeenFor(Duration retention) {
+        final OfferFeedState feedState = offerRepository.findFeedState().orElse(null);
+        if (feedState == null || feedState.lastCompleteRunAt() == null) {
+            return 0;
+        }
+        final Instant retentionCutoff = clock.instant().minus(retention);
+        if (feedState.lastRunComplete()) {
+            return offerRepository.deleteByLastSeenBefore(retentionCutoff);
+        }
+        final Instant lastCompleteRunAt = feedState.lastCompleteRunAt();
+        return offerRepository.deleteByLastSeenBefore(
+                retentionCutoff.isBefore(lastCompleteRunAt) ? retentionCutoff : lastCompleteRunAt);
+    }
 }
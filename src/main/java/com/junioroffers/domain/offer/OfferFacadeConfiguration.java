@@ -3,15 +3,33 @@ package com.junioroffers.domain.offer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.List;
-import java.util.Optional;
+import java.time.Clock;
+import java.util.stream.Stream;
 
 @Configuration
 public class OfferFacadeConfiguration {
 
     @Bean
-    OfferFacade offerFacade(OfferFetchable offerFetchable, OfferRepository repository) {
-        OfferService offerService = new OfferService(offerFetchable, repository);
-        return new OfferFacade(repository, offerService);
+    OfferUrlFilter offerUrlFilter(OfferRepository repository, OfferIngestionProperties properties) {
+        OfferUrlFilter offerUrlFilter = new OfferUrlFilter(properties.urlFilterExpectedUrls(), properties.urlFilterFalsePositiveRate());
+        try (Stream<Offer> offers = repository.streamAllOfferUrlsBy()) {
+            offers.forEach(offer -> offerUrlFilter.put(offer.offerUrl()));
+        }
+        return offerUrlFilter;
+    }
+
+    @Bean
+    OfferIngestionPipeline offerIngestionPipeline(OfferRepository repository, OfferUrlFilter offerUrlFilter,
+                                                  OfferIngestionProperties properties, Clock clock) {
+        return new OfferIngestionPipeline(repository, offerUrlFilter, clock, properties.batchSize(),
+                properties.queueCapacity(), properties.normalizeConcurrency(), properties.dedupeConcurrency(),
+                properties.writeConcurrency());
+    }
+
+    @Bean
+    OfferFacade offerFacade(OfferFetchable offerFetchable, OfferRepository repository, OfferUrlFilter offerUrlFilter,
+                            OfferIngestionPipeline offerIngestionPipeline, Clock clock) {
+        OfferService offerService = new OfferService(offerFetchable, offerIngestionPipeline);
+        return new OfferFacade(repository, offerService, offerUrlFilter, clock);
     }
 }
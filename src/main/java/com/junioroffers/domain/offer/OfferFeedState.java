@@ -0,0 +1,16 @@
+package com.junioroffers.domain.offer;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document("offer_feed_state")
+record OfferFeedState(
+        @Id String id,
+        Instant lastRunAt,
+        boolean lastRunComplete,
+        Instant lastCompleteRunAt
+) {
+    static final String OFFERS_FEED = "offers";
+}
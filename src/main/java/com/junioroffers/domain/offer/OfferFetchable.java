@@ -3,7 +3,19 @@ package com.junioroffers.domain.offer;
 import com.junioroffers.domain.offer.dto.JobOfferResponse;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface OfferFetchable {
     List<JobOfferResponse> fetchOffers();
+
+    default boolean fetchOffers(int chunkSize, Consumer<List<JobOfferResponse>> chunkConsumer) {
+        final List<JobOfferResponse> offers = fetchOffers();
+        for (int from = 0; from < offers.size(); from += chunkSize) {
+            chunkConsumer.accept(offers.subList(from, Math.min(from + chunkSize, offers.size())));
+        }
+        return true;
+    }
+
+    default void commitFetchedOffers() {
+    }
 }
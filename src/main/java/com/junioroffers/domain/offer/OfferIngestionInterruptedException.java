@@ -0,0 +1,8 @@
+package com.junioroffers.domain.offer;
+
+public class OfferIngestionInterruptedException extends RuntimeException {
+
+    public OfferIngestionInterruptedException(int savedOffers) {
+        super(String.format("Offers ingestion interrupted after saving %d offers", savedOffers));
+    }
+}
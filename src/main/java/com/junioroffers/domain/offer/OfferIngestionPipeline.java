@@ -0,0 +1,373 @@
+package com.junioroffers.domain.offer;
+
+import com.junioroffers.domain.offer.dto.JobOfferResponse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+public class OfferIngestionPipeline {
+    private final OfferRepository offerRepository;
+    private final OfferUrlFilter offerUrlFilter;
+    private final Clock clock;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final Map<OfferIngestionStage, Integer> concurrency;
+    private final Map<OfferIngestionStage, LongAdder> processedOffers = new EnumMap<>(OfferIngestionStage.class);
+    private volatile Map<OfferIngestionStage, BlockingQueue<?>> activeQueues = Map.of();
+
+    OfferIngestionPipeline(OfferRepository offerRepository, OfferUrlFilter offerUrlFilter, Clock clock, int batchSize,
+                           int queueCapacity, int normalizeConcurrency, int dedupeConcurrency, int writeConcurrency) {
+        this.offerRepository = offerRepository;
+        this.offerUrlFilter = offerUrlFilter;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.concurrency = Map.of(
+                OfferIngestionStage.NORMALIZE, normalizeConcurrency,
+                OfferIngestionStage.DEDUPE, dedupeConcurrency,
+                OfferIngestionStage.WRITE, writeConcurrency);
+        for (OfferIngestionStage stage : OfferIngestionStage.values()) {
+            processedOffers.put(stage, new LongAdder());
+        }
+    }
+
+    public long processedOffers(OfferIngestionStage stage) {
+        return processedOffers.get(stage).sum();
+    }
+
+    public int queueDepth(OfferIngestionStage stage) {
+        final BlockingQueue<?> queue = activeQueues.get(stage);
+        return queue == null ? 0 : queue.size();
+    }
+
+    public int queueCapacity() {
+        return queueCapacity;
+    }
+
+    synchronized OfferIngestionResult ingest(OfferFetchable offerFetcher, BooleanSupplier ingestionGuard) {
+        final IngestionRun run = new IngestionRun(clock.instant());
+        final StageRun<OfferWriteBatch> write = new StageRun<>(OfferIngestionStage.WRITE, run, OfferWriteBatch::size,
+                batch -> writeOffers(batch, run, ingestionGuard), run.completed::countDown, true);
+        final StageRun<List<Offer>> dedupe = new StageRun<>(OfferIngestionStage.DEDUPE, run, List::size,
+                batch -> dedupeOffers(batch, write, run), write::close, false);
+        final StageRun<List<JobOfferResponse>> normalize = new StageRun<>(OfferIngestionStage.NORMALIZE, run, List::size,
+                batch -> normalizeOffers(batch, dedupe, run), dedupe::close, false);
+        activeQueues = Map.of(
+                OfferIngestionStage.NORMALIZE, normalize.queue,
+                OfferIngestionStage.DEDUPE, dedupe.queue,
+                OfferIngestionStage.WRITE, write.queue);
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                concurrency.values().stream().mapToInt(Integer::intValue).sum(), new PipelineThreadFactory());
+        try {
+            normalize.start(executor);
+            dedupe.start(executor);
+            write.start(executor);
+            try {
+                run.completeFeed = offerFetcher.fetchOffers(batchSize, chunk -> fetchOffers(chunk, normalize, run));
+            } catch (RuntimeException e) {
+                run.fail(e);
+            } finally {
+                normalize.close();
+            }
+            run.completed.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run.fail(new OfferIngestionInterruptedException(run.progress.savedOffersCount()));
+        } finally {
+            executor.shutdownNow();
+            activeQueues = Map.of();
+        }
+        if (run.failure.get() != null) {
+            throw run.failure.get();
+        }
+        offerFetcher.commitFetchedOffers();
+        return run.progress.toResult(run.seenAt, run.completeFeed);
+    }
+
+    private void fetchOffers(List<JobOfferResponse> chunk, StageRun<List<JobOfferResponse>> normalize, IngestionRun run) {
+        run.throwIfFailed();
+        run.progress.addFetched(chunk.size());
+        processedOffers.get(OfferIngestionStage.FETCH).add(chunk.size());
+        try {
+            normalize.put(chunk);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OfferIngestionInterruptedException(run.progress.savedOffersCount());
+        }
+    }
+
+    private void normalizeOffers(List<JobOfferResponse> chunk, StageRun<List<Offer>> dedupe, IngestionRun run)
+            throws InterruptedException {
+        final List<Offer> offersWithUrl = chunk.stream()
+                .map(OfferMapper::mapFromJobOfferResponseToOffer)
+                .filter(this::hasOfferUrl)
+                .toList();
+        run.progress.addSkipped(chunk.size() - offersWithUrl.size());
+        if (!offersWithUrl.isEmpty()) {
+            dedupe.put(offersWithUrl);
+        }
+    }
+
+    private void dedupeOffers(List<Offer> offers, StageRun<OfferWriteBatch> write, IngestionRun run)
+            throws InterruptedException {
+        final Collection<Offer> uniqueOffers = filterOffersWithUniqueUrl(offers);
+        final Map<String, Offer> existingOffers = findExistingOffers(uniqueOffers);
+        final List<Offer> newOrChangedOffers = new ArrayList<>();
+        final List<String> unchangedOfferUrls = new ArrayList<>();
+        for (Offer offer : uniqueOffers) {
+            final Offer existingOffer = existingOffers.get(offer.offerUrl());
+            if (existingOffer == null) {
+                newOrChangedOffers.add(offer.toBuilder().firstSeen(run.seenAt).lastSeen(run.seenAt).build());
+            } else if (!Objects.equals(existingOffer.contentHash(), offer.contentHash())) {
+                newOrChangedOffers.add(offer.toBuilder().id(existingOffer.id()).lastSeen(run.seenAt).build());
+            } else {
+                unchangedOfferUrls.add(offer.offerUrl());
+            }
+        }
+        write.put(new OfferWriteBatch(newOrChangedOffers, unchangedOfferUrls));
+    }
+
+    private void writeOffers(OfferWriteBatch batch, IngestionRun run, BooleanSupplier ingestionGuard) {
+        if (run.guardRevoked || !ingestionGuard.getAsBoolean()) {
+            run.guardRevoked = true;
+            throw new OfferIngestionInterruptedException(run.progress.savedOffersCount());
+        }
+        final Map<Boolean, List<Offer>> offersByExistence = batch.newOrChangedOffers().stream()
+                .collect(Collectors.partitioningBy(offer -> offer.id() != null));
+        final List<Offer> savedOffers = offerRepository.insertAllIgnoringDuplicates(offersByExistence.get(false));
+        final OfferWriteBatch concurrentlySavedOffers = findConcurrentlySavedOffers(offersByExistence.get(false),
+                savedOffers, run);
+        final List<Offer> changedOffers = new ArrayList<>(offersByExistence.get(true));
+        changedOffers.addAll(concurrentlySavedOffers.newOrChangedOffers());
+        final List<String> unchangedOfferUrls = new ArrayList<>(batch.unchangedOfferUrls());
+        unchangedOfferUrls.addAll(concurrentlySavedOffers.unchangedOfferUrls());
+        final int updatedOffers = offerRepository.updateAllContent(changedOffers);
+        offerRepository.updateLastSeen(unchangedOfferUrls, run.seenAt);
+        batch.newOrChangedOffers().forEach(offer -> offerUrlFilter.put(offer.offerUrl()));
+        run.progress.addSaved(savedOffers);
+        run.progress.addUpdated(updatedOffers);
+    }
+
+    private OfferWriteBatch findConcurrentlySavedOffers(List<Offer> newOffers, List<Offer> savedOffers, IngestionRun run) {
+        final Set<String> savedOfferUrls = savedOffers.stream()
+                .map(Offer::offerUrl)
+                .collect(Collectors.toSet());
+        final List<Offer> duplicatedOffers = newOffers.stream()
+                .filter(offer -> !savedOfferUrls.contains(offer.offerUrl()))
+                .toList();
+        if (duplicatedOffers.isEmpty()) {
+            return new OfferWriteBatch(List.of(), List.of());
+        }
+        final Map<String, Offer> existingOffers = offerRepository.findAllByOfferUrlIn(duplicatedOffers.stream()
+                        .map(Offer::offerUrl)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Offer::offerUrl, Function.identity()));
+        final List<Offer> changedOffers = new ArrayList<>();
+        final List<String> unchangedOfferUrls = new ArrayList<>();
+        for (Offer offer : duplicatedOffers) {
+            final Offer existingOffer = existingOffers.get(offer.offerUrl());
+            if (existingOffer == null) {
+                continue;
+            }
+            if (!Objects.equals(existingOffer.contentHash(), offer.contentHash())) {
+                changedOffers.add(offer.toBuilder().id(existingOffer.id()).lastSeen(run.seenAt).build());
+            } else {
+                unchangedOfferUrls.add(offer.offerUrl());
+            }
+        }
+        return new OfferWriteBatch(changedOffers, unchangedOfferUrls);
+    }
+
+    private Collection<Offer> filterOffersWithUniqueUrl(List<Offer> offers) {
+        final Map<String, Offer> offersByUrl = new LinkedHashMap<>();
+        offers.forEach(offer -> offersByUrl.putIfAbsent(offer.offerUrl(), offer));
+        return offersByUrl.values();
+    }
+
+    private Map<String, Offer> findExistingOffers(Collection<Offer> offers) {
+        final List<String> maybeExistingOfferUrls = offers.stream()
+                .map(Offer::offerUrl)
+                .filter(offerUrlFilter::mightContain)
+                .toList();
+        if (maybeExistingOfferUrls.isEmpty()) {
+            return Map.of();
+        }
+        return offerRepository.findAllByOfferUrlIn(maybeExistingOfferUrls)
+                .stream()
+                .collect(Collectors.toMap(Offer::offerUrl, Function.identity()));
+    }
+
+    private boolean hasOfferUrl(Offer offer) {
+        return offer.offerUrl() != null && !offer.offerUrl().isBlank();
+    }
+
+    private record OfferWriteBatch(List<Offer> newOrChangedOffers, List<String> unchangedOfferUrls) {
+        int size() {
+            return newOrChangedOffers.size() + unchangedOfferUrls.size();
+        }
+    }
+
+    private interface StageWorker<B> {
+        void process(B batch) throws InterruptedException;
+    }
+
+    private final class StageRun<B> {
+        private final OfferIngestionStage stage;
+        private final IngestionRun run;
+        private final ToIntFunction<B> batchSize;
+        private final StageWorker<B> worker;
+        private final Runnable onCompleted;
+        private final boolean drainAfterFailure;
+        private final BlockingQueue<Optional<B>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicInteger runningWorkers;
+
+        StageRun(OfferIngestionStage stage, IngestionRun run, ToIntFunction<B> batchSize, StageWorker<B> worker,
+                 Runnable onCompleted, boolean drainAfterFailure) {
+            this.stage = stage;
+            this.run = run;
+            this.batchSize = batchSize;
+            this.worker = worker;
+            this.onCompleted = onCompleted;
+            this.drainAfterFailure = drainAfterFailure;
+            this.runningWorkers = new AtomicInteger(concurrency.get(stage));
+        }
+
+        void start(ExecutorService executor) {
+            for (int i = 0; i < concurrency.get(stage); i++) {
+                executor.execute(this::work);
+            }
+        }
+
+        void put(B batch) throws InterruptedException {
+            queue.put(Optional.of(batch));
+        }
+
+        void close() {
+            try {
+                for (int i = 0; i < concurrency.get(stage); i++) {
+                    queue.put(Optional.empty());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                run.fail(new OfferIngestionInterruptedException(run.progress.savedOffersCount()));
+            }
+        }
+
+        private void work() {
+            try {
+                Optional<B> batch;
+                while ((batch = queue.take()).isPresent()) {
+                    if (drainAfterFailure || run.failure.get() == null) {
+                        process(batch.get());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                run.fail(new OfferIngestionInterruptedException(run.progress.savedOffersCount()));
+            } finally {
+                if (runningWorkers.decrementAndGet() == 0) {
+                    onCompleted.run();
+                }
+            }
+        }
+
+        private void process(B batch) throws InterruptedException {
+            try {
+                worker.process(batch);
+                processedOffers.get(stage).add(batchSize.applyAsInt(batch));
+            } catch (RuntimeException e) {
+                run.fail(e);
+            }
+        }
+    }
+
+    private static class IngestionRun {
+        private final Instant seenAt;
+        private final IngestionProgress progress = new IngestionProgress();
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile boolean guardRevoked;
+        private boolean completeFeed;
+
+        IngestionRun(Instant seenAt) {
+            this.seenAt = seenAt;
+        }
+
+        void fail(RuntimeException e) {
+            failure.compareAndSet(null, e);
+        }
+
+        void throwIfFailed() {
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+        }
+    }
+
+    private static class IngestionProgress {
+        private final List<Offer> savedOffers = new ArrayList<>();
+        private int fetchedOffers;
+        private int skippedOffers;
+        private int updatedOffers;
+
+        synchronized void addFetched(int fetched) {
+            fetchedOffers += fetched;
+        }
+
+        synchronized void addSkipped(int skipped) {
+            skippedOffers += skipped;
+        }
+
+        synchronized void addSaved(List<Offer> saved) {
+            savedOffers.addAll(saved);
+        }
+
+        synchronized void addUpdated(int updated) {
+            updatedOffers += updated;
+        }
+
+        synchronized int savedOffersCount() {
+            return savedOffers.size();
+        }
+
+        synchronized OfferIngestionResult toResult(Instant seenAt, boolean completeFeed) {
+            final int duplicatedOffers = fetchedOffers - skippedOffers - savedOffers.size() - updatedOffers;
+            return new OfferIngestionResult(List.copyOf(savedOffers), fetchedOffers, duplicatedOffers, skippedOffers,
+                    updatedOffers, seenAt, completeFeed);
+        }
+    }
+
+    private static class PipelineThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "offer-ingestion-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
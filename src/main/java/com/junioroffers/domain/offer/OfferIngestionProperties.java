@@ -0,0 +1,21 @@
+package com.junioroffers.domain.offer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(value = "offer.ingestion")
+public record OfferIngestionProperties(
+        int batchSize,
+        long urlFilterExpectedUrls,
+        double urlFilterFalsePositiveRate,
+        int queueCapacity,
+        int normalizeConcurrency,
+        int dedupeConcurrency,
+        int writeConcurrency
+) {
+    public OfferIngestionProperties {
+        queueCapacity = queueCapacity > 0 ? queueCapacity : 4;
+        normalizeConcurrency = normalizeConcurrency > 0 ? normalizeConcurrency : 1;
+        dedupeConcurrency = dedupeConcurrency > 0 ? dedupeConcurrency : 1;
+        writeConcurrency = writeConcurrency > 0 ? writeConcurrency : 1;
+    }
+}
@@ -0,0 +1,15 @@
+package com.junioroffers.domain.offer;
+
+import java.time.Instant;
+import java.util.List;
+
+record OfferIngestionResult(
+        List<Offer> savedOffers,
+        int fetchedOffers,
+        int duplicatedOffers,
+        int skippedOffers,
+        int updatedOffers,
+        Instant seenAt,
+        boolean completeFeed
+) {
+}
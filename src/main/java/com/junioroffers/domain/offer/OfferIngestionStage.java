@@ -0,0 +1,8 @@
+package com.junioroffers.domain.offer;
+
+public enum OfferIngestionStage {
+    FETCH,
+    NORMALIZE,
+    DEDUPE,
+    WRITE
+}
@@ -21,6 +21,7 @@ public class OfferMapper {
                 .position(offerDto.position())
                 .salary(offerDto.salary())
                 .offerUrl(offerDto.offerUrl())
+                .contentHash(OfferContentHash.of(offerDto.companyName(), offerDto.position(), offerDto.salary()))
                 .build();
     }
 
@@ -30,6 +31,7 @@ public class OfferMapper {
                 .salary(jobOfferDto.salary())
                 .position(jobOfferDto.title())
                 .companyName(jobOfferDto.company())
+                .contentHash(OfferContentHash.of(jobOfferDto.company(), jobOfferDto.title(), jobOfferDto.salary()))
                 .build();
     }
 }
@@ -1,9 +1,30 @@
 package com.junioroffers.domain.offer;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface OfferRepository extends MongoRepository<Offer, String> {
+public interface OfferRepository extends MongoRepository<Offer, String>, OfferRepositoryCustom {
     boolean existsByOfferUrl(String offerUrl);
+
+    List<Offer> findAllByOrderByIdAsc(Pageable pageable);
+
+    List<Offer> findByIdGreaterThanOrderByIdAsc(String id, Pageable pageable);
+
+    Stream<Offer> streamAllBy();
+
+    @Query(value = "{ 'url': { $in: ?0 } }", fields = "{ 'url': 1, 'hash': 1 }")
+    List<Offer> findAllByOfferUrlIn(Collection<String> offerUrls);
+
+    @Query(value = "{}", fields = "{ 'url': 1 }")
+    Stream<Offer> streamAllOfferUrlsBy();
+
+    long deleteByLastSeenBefore(Instant lastSeen);
 }
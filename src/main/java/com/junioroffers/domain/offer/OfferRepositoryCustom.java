@@ -0,0 +1,18 @@
+package com.junioroffers.domain.offer;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+interface OfferRepositoryCustom {
+    List<Offer> insertAllIgnoringDuplicates(List<Offer> offers);
+
+    int updateAllContent(List<Offer> offers);
+
+    void updateLastSeen(Collection<String> offerUrls, Instant lastSeen);
+
+    void recordFeedRun(Instant seenAt, boolean completeFeed);
+
+    Optional<OfferFeedState> findFeedState();
+}
@@ -0,0 +1,102 @@
+package com.junioroffers.domain.offer;
+
+import com.mongodb.bulk.BulkWriteError;
+import lombok.AllArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@AllArgsConstructor
+class OfferRepositoryCustomImpl implements OfferRepositoryCustom {
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Offer> insertAllIgnoringDuplicates(List<Offer> offers) {
+        if (offers.isEmpty()) {
+            return List.of();
+        }
+        final List<Offer> offersWithIds = offers.stream()
+                .map(offer -> offer.id() == null ? offer.toBuilder().id(ObjectId.get().toHexString()).build() : offer)
+                .toList();
+        final BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Offer.class);
+        bulkOperations.insert(offersWithIds);
+        try {
+            bulkOperations.execute();
+            return offersWithIds;
+        } catch (BulkOperationException e) {
+            final Set<Integer> duplicatedIndexes = e.getErrors()
+                    .stream()
+                    .filter(error -> error.getCode() == DUPLICATE_KEY_ERROR_CODE)
+                    .map(BulkWriteError::getIndex)
+                    .collect(Collectors.toSet());
+            if (duplicatedIndexes.size() != e.getErrors().size()) {
+                throw e;
+            }
+            return IntStream.range(0, offersWithIds.size())
+                    .filter(index -> !duplicatedIndexes.contains(index))
+                    .mapToObj(offersWithIds::get)
+                    .toList();
+        }
+    }
+
+    @Override
+    public int updateAllContent(List<Offer> offers) {
+        if (offers.isEmpty()) {
+            return 0;
+        }
+        final BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Offer.class);
+        offers.forEach(offer -> bulkOperations.updateOne(
+                Query.query(Criteria.where("_id").is(offer.id())),
+                new Update()
+                        .set("company", offer.companyName())
+                        .set("position", offer.position())
+                        .set("salary", offer.salary())
+                        .set("hash", offer.contentHash())
+                        .set("lastSeen", offer.lastSeen())
+                        .min("firstSeen", offer.lastSeen())));
+        return bulkOperations.execute().getModifiedCount();
+    }
+
+    @Override
+    public void updateLastSeen(Collection<String> offerUrls, Instant lastSeen) {
+        if (offerUrls.isEmpty()) {
+            return;
+        }
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("url").in(offerUrls)),
+                new Update()
+                        .set("lastSeen", lastSeen)
+                        .min("firstSeen", lastSeen),
+                Offer.class);
+    }
+
+    @Override
+    public void recordFeedRun(Instant seenAt, boolean completeFeed) {
+        final Update update = new Update()
+                .max("lastRunAt", seenAt)
+                .set("lastRunComplete", completeFeed);
+        if (completeFeed) {
+            update.max("lastCompleteRunAt", seenAt);
+        }
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(OfferFeedState.OFFERS_FEED)), update,
+                OfferFeedState.class);
+    }
+
+    @Override
+    public Optional<OfferFeedState> findFeedState() {
+        return Optional.ofNullable(mongoTemplate.findById(OfferFeedState.OFFERS_FEED, OfferFeedState.class));
+    }
+}
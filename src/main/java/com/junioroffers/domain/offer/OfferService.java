@@ -1,36 +1,15 @@
 package com.junioroffers.domain.offer;
 
 import lombok.AllArgsConstructor;
-import org.springframework.stereotype.Component;
-import java.util.List;
-import java.util.stream.Collectors;
+
+import java.util.function.BooleanSupplier;
 
 @AllArgsConstructor
 class OfferService {
     private final OfferFetchable offerFetcher;
-    private final OfferRepository offerRepository;
-
-    List<Offer> fetchAllOffersAndSaveAllIfNotExist() {
-        List<Offer> jobOffers = fetchOffers();
-        final List<Offer> offers = filterNotExistingOffers(jobOffers);
-        try {
-            return offerRepository.saveAll(offers);
-        } catch (OfferDuplicateException duplicateKeyException) {
-            throw new OfferSavingException(duplicateKeyException.getMessage(), jobOffers);
-        }
-    }
-
-    private List<Offer> fetchOffers() {
-        return offerFetcher.fetchOffers()
-                .stream()
-                .map(OfferMapper::mapFromJobOfferResponseToOffer)
-                .toList();
-    }
+    private final OfferIngestionPipeline ingestionPipeline;
 
-    private List<Offer> filterNotExistingOffers(List<Offer> jobOffers) {
-        return jobOffers.stream()
-                .filter(offerDto -> !offerDto.offerUrl().isEmpty())
-                .filter(offerDto -> !offerRepository.existsByOfferUrl(offerDto.offerUrl()))
-                .collect(Collectors.toList());
+    OfferIngestionResult fetchAllOffersAndSaveAllIfNotExist(BooleanSupplier ingestionGuard) {
+        return ingestionPipeline.ingest(offerFetcher, ingestionGuard);
     }
 }
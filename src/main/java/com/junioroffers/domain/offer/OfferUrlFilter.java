@@ -0,0 +1,78 @@
+package com.junioroffers.domain.offer;
+
+import com.junioroffers.domain.hashing.Fnv1aHash;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OfferUrlFilter {
+    private static final long GOLDEN_RATIO = 0x9e3779b97f4a7c15L;
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final LongAdder setBits = new LongAdder();
+    private final LongAdder insertedUrls = new LongAdder();
+
+    OfferUrlFilter(long expectedUrls, double falsePositiveRate) {
+        final long urls = Math.max(1, expectedUrls);
+        final long words = (long) Math.ceil(-urls * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)) / Long.SIZE);
+        this.bits = new AtomicLongArray(Math.toIntExact(Math.max(1, words)));
+        this.bitSize = (long) bits.length() * Long.SIZE;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / urls * Math.log(2)));
+    }
+
+    public boolean mightContain(String offerUrl) {
+        final long firstHash = Fnv1aHash.mix(Fnv1aHash.of(offerUrl));
+        final long secondHash = Fnv1aHash.mix(firstHash + GOLDEN_RATIO) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            final long index = Math.floorMod(firstHash + i * secondHash, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(String offerUrl) {
+        final long firstHash = Fnv1aHash.mix(Fnv1aHash.of(offerUrl));
+        final long secondHash = Fnv1aHash.mix(firstHash + GOLDEN_RATIO) | 1;
+        boolean changed = false;
+        for (int i = 0; i < hashFunctions; i++) {
+            changed |= setBit(Math.floorMod(firstHash + i * secondHash, bitSize));
+        }
+        if (changed) {
+            insertedUrls.increment();
+        }
+    }
+
+    public long approximateUrlCount() {
+        return insertedUrls.sum();
+    }
+
+    public long memorySizeInBytes() {
+        return (long) bits.length() * Long.BYTES;
+    }
+
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) setBits.sum() / bitSize, hashFunctions);
+    }
+
+    int hashFunctions() {
+        return hashFunctions;
+    }
+
+    private boolean setBit(long index) {
+        final int word = (int) (index >>> 6);
+        final long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+        setBits.increment();
+        return true;
+    }
+}
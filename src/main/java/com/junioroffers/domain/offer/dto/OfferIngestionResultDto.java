@@ -0,0 +1,12 @@
+package com.junioroffers.domain.offer.dto;
+
+import java.util.List;
+
+public record OfferIngestionResultDto(
+        List<OfferResponseDto> addedOffers,
+        int fetchedOffers,
+        int duplicatedOffers,
+        int skippedOffers,
+        int updatedOffers
+) {
+}
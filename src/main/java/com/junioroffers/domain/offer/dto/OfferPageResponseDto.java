@@ -0,0 +1,9 @@
+package com.junioroffers.domain.offer.dto;
+
+import java.util.List;
+
+public record OfferPageResponseDto(
+        List<OfferResponseDto> offers,
+        String nextCursor
+) {
+}
@@ -0,0 +1,110 @@
+package com.junioroffers.infrastructure.cache;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Log4j2
+class CacheInvalidationBus implements MessageListener {
+    private static final int MAX_MISSING_GENERATIONS = 1_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String nodeId;
+    private final Duration reorderWindow;
+    private final Clock clock;
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<String, OriginGenerations> originGenerations = new ConcurrentHashMap<>();
+    private volatile LocalCacheInvalidator localCacheInvalidator;
+
+    CacheInvalidationBus(StringRedisTemplate redisTemplate, String channel, String nodeId, Duration reorderWindow,
+                         Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.nodeId = nodeId;
+        this.reorderWindow = reorderWindow;
+        this.clock = clock;
+    }
+
+    void register(LocalCacheInvalidator localCacheInvalidator) {
+        this.localCacheInvalidator = localCacheInvalidator;
+    }
+
+    void publishEvict(String cacheName, Object key) {
+        publish(new CacheInvalidationEvent(nodeId, generation.incrementAndGet(), cacheName, String.valueOf(key)));
+    }
+
+    void publishClear(String cacheName) {
+        publish(new CacheInvalidationEvent(nodeId, generation.incrementAndGet(), cacheName, null));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        final CacheInvalidationEvent event;
+        try {
+            event = CacheInvalidationEvent.decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignored cache invalidation event: {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(event.nodeId()) || localCacheInvalidator == null) {
+            return;
+        }
+        final int missedEvents = originGenerations.computeIfAbsent(event.nodeId(), origin -> new OriginGenerations())
+                .track(event.generation(), clock.instant());
+        if (missedEvents > 0) {
+            log.warn("Missed {} cache invalidation events from node {}, clearing local caches",
+                    missedEvents, event.nodeId());
+            localCacheInvalidator.invalidateAllLocal();
+            return;
+        }
+        localCacheInvalidator.invalidateLocal(event.cacheName(), event.key());
+    }
+
+    private void publish(CacheInvalidationEvent event) {
+        try {
+            redisTemplate.convertAndSend(channel, event.encode());
+        } catch (RuntimeException e) {
+            log.error("Could not publish cache invalidation of {}: {}", event.cacheName(), e.getMessage());
+        }
+    }
+
+    private class OriginGenerations {
+        private final Map<Long, Instant> missingSince = new HashMap<>();
+        private long highestGeneration;
+
+        synchronized int track(long generation, Instant now) {
+            if (generation > highestGeneration) {
+                if (highestGeneration > 0) {
+                    final long skippedGenerations = generation - highestGeneration - 1;
+                    if (missingSince.size() + skippedGenerations > MAX_MISSING_GENERATIONS) {
+                        final int missedEvents = missingSince.size()
+                                + (int) Math.min(skippedGenerations, MAX_MISSING_GENERATIONS);
+                        missingSince.clear();
+                        highestGeneration = generation;
+                        return missedEvents;
+                    }
+                    for (long missing = highestGeneration + 1; missing < generation; missing++) {
+                        missingSince.put(missing, now);
+                    }
+                }
+                highestGeneration = generation;
+            } else {
+                missingSince.remove(generation);
+            }
+            final int missingEvents = missingSince.size();
+            missingSince.values().removeIf(since -> !now.isBefore(since.plus(reorderWindow)));
+            return missingEvents - missingSince.size();
+        }
+    }
+}
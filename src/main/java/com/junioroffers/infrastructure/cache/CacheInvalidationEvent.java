@@ -0,0 +1,23 @@
+package com.junioroffers.infrastructure.cache;
+
+record CacheInvalidationEvent(String nodeId, long generation, String cacheName, String key) {
+    private static final String SEPARATOR = "|";
+
+    boolean clearsAllEntries() {
+        return key == null;
+    }
+
+    String encode() {
+        final String header = nodeId + SEPARATOR + generation + SEPARATOR + cacheName;
+        return clearsAllEntries() ? header : header + SEPARATOR + key;
+    }
+
+    static CacheInvalidationEvent decode(String message) {
+        final String[] parts = message.split("\\" + SEPARATOR, 4);
+        if (parts.length < 3) {
+            throw new IllegalArgumentException("Malformed cache invalidation event: " + message);
+        }
+        return new CacheInvalidationEvent(parts[0], Long.parseLong(parts[1]), parts[2],
+                parts.length == 4 ? parts[3] : null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.junioroffers.infrastructure.cache;
+
+interface LocalCacheInvalidator {
+    void invalidateLocal(String cacheName, String key);
+
+    void invalidateAllLocal();
+}
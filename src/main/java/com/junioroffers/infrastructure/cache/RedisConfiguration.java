@@ -1,17 +1,30 @@
 package com.junioroffers.infrastructure.cache;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+
 @Configuration
 @EnableCaching
 @ConditionalOnProperty(value = "spring.cache.type", havingValue = "redis")
@@ -34,4 +47,38 @@ class RedisConfiguration {
         redisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
         return redisTemplate;
     }
+
+    @Bean
+    CacheInvalidationBus cacheInvalidationBus(RedisConnectionFactory redisConnectionFactory, Clock clock,
+                                              @Value("${offer.cache.invalidation.channel:offers:cache-invalidation}") String channel,
+                                              @Value("${offer.cache.invalidation.reorder-window:PT5S}") Duration reorderWindow) {
+        return new CacheInvalidationBus(new StringRedisTemplate(redisConnectionFactory), channel, UUID.randomUUID().toString(),
+                reorderWindow, clock);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       CacheInvalidationBus cacheInvalidationBus,
+                                                                       @Value("${offer.cache.invalidation.channel:offers:cache-invalidation}") String channel) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setSubscriptionExecutor(new SimpleAsyncTaskExecutor("redis-subscription-"));
+        container.setTaskExecutor(new SyncTaskExecutor());
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(channel));
+        return container;
+    }
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${spring.cache.redis.time-to-live}") Duration redisTimeToLive,
+                                     @Value("${offer.cache.local.maximum-size:1000}") long localMaximumSize,
+                                     @Value("${offer.cache.local.time-to-live:PT1M}") Duration localTimeToLive) {
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
+                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig().entryTtl(redisTimeToLive))
+                .build();
+        return new TwoLevelCacheManager(redisCacheManager, localMaximumSize, localTimeToLive, cacheInvalidationBus,
+                meterRegistry);
+    }
 }
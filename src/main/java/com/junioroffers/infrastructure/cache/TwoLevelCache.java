@@ -0,0 +1,121 @@
+package com.junioroffers.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+class TwoLevelCache extends AbstractValueAdaptingCache {
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+    private final Cache remoteCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache, Cache remoteCache,
+                  CacheInvalidationBus invalidationBus) {
+        super(true);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        final Object localValue = localCache.getIfPresent(key);
+        if (localValue != null) {
+            localHits.increment();
+            return localValue;
+        }
+        final ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue == null) {
+            misses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        final Object storeValue = toStoreValue(remoteValue.get());
+        localCache.put(key, storeValue);
+        return storeValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        final Object localValue = localCache.getIfPresent(key);
+        if (localValue != null) {
+            localHits.increment();
+            return (T) fromStoreValue(localValue);
+        }
+        return (T) fromStoreValue(localCache.get(key, k -> {
+            final AtomicBoolean loaded = new AtomicBoolean();
+            final T value = remoteCache.get(key, () -> {
+                loaded.set(true);
+                return valueLoader.call();
+            });
+            (loaded.get() ? misses : remoteHits).increment();
+            return toStoreValue(value);
+        }));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        localCache.put(key, toStoreValue(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        final ValueWrapper existingValue = remoteCache.putIfAbsent(key, value);
+        localCache.invalidate(key);
+        return existingValue;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        localCache.invalidate(key);
+        invalidationBus.publishEvict(name, key);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        invalidationBus.publishClear(name);
+    }
+
+    long localHitCount() {
+        return localHits.sum();
+    }
+
+    long remoteHitCount() {
+        return remoteHits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    void invalidateLocal(String key) {
+        if (key == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.asMap().keySet().removeIf(localKey -> key.equals(String.valueOf(localKey)));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.junioroffers.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+class TwoLevelCacheManager implements CacheManager, LocalCacheInvalidator {
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final CacheManager remoteCacheManager;
+    private final long localMaximumSize;
+    private final Duration localTimeToLive;
+    private final CacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+
+    TwoLevelCacheManager(CacheManager remoteCacheManager, long localMaximumSize, Duration localTimeToLive,
+                         CacheInvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localMaximumSize = localMaximumSize;
+        this.localTimeToLive = localTimeToLive;
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+        invalidationBus.register(this);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    @Override
+    public void invalidateLocal(String cacheName, String key) {
+        final TwoLevelCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.invalidateLocal(key);
+        }
+    }
+
+    @Override
+    public void invalidateAllLocal() {
+        caches.values().forEach(cache -> cache.invalidateLocal(null));
+    }
+
+    private TwoLevelCache createCache(String name) {
+        final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTimeToLive)
+                .build();
+        final TwoLevelCache cache = new TwoLevelCache(name, localCache, remoteCacheManager.getCache(name), invalidationBus);
+        bindMetrics(cache, localCache);
+        return cache;
+    }
+
+    private void bindMetrics(TwoLevelCache cache, com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache) {
+        FunctionCounter.builder("cache.tiered.gets", cache, TwoLevelCache::localHitCount)
+                .description("Two-level cache lookups by the level that served them")
+                .tag("cache", cache.getName())
+                .tag("result", "local_hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.tiered.gets", cache, TwoLevelCache::remoteHitCount)
+                .description("Two-level cache lookups by the level that served them")
+                .tag("cache", cache.getName())
+                .tag("result", "remote_hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.tiered.gets", cache, TwoLevelCache::missCount)
+                .description("Two-level cache lookups by the level that served them")
+                .tag("cache", cache.getName())
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.tiered.hit.ratio", cache, TwoLevelCacheManager::hitRatio)
+                .description("Share of two-level cache lookups served from either level")
+                .tag("cache", cache.getName())
+                .register(meterRegistry);
+        Gauge.builder("cache.tiered.local.size", localCache, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .description("Approximate number of entries in the local cache level")
+                .tag("cache", cache.getName())
+                .register(meterRegistry);
+    }
+
+    private static double hitRatio(TwoLevelCache cache) {
+        final long hits = cache.localHitCount() + cache.remoteHitCount();
+        final long lookups = hits + cache.missCount();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
@@ -1,12 +1,15 @@
 package com.junioroffers.infrastructure.loginandregister.controller;
 
 import com.junioroffers.infrastructure.loginandregister.controller.dto.JwtResponseDto;
+import com.junioroffers.infrastructure.loginandregister.controller.dto.RefreshTokenRequestDto;
 import com.junioroffers.infrastructure.loginandregister.controller.dto.TokenRequestDto;
 import com.junioroffers.infrastructure.security.jwt.JwtAuthenticatorFacade;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
@@ -22,4 +25,17 @@ public class TokenController {
         final JwtResponseDto jwtResponse = jwtAuthenticatorFacade. authenticateAndGenerateToken(tokenRequest);
         return ResponseEntity.ok(jwtResponse);
     }
+
+    @PostMapping("/token/refresh")
+    public ResponseEntity<JwtResponseDto> refreshToken(@Valid @RequestBody RefreshTokenRequestDto refreshRequest) {
+        final JwtResponseDto jwtResponse = jwtAuthenticatorFacade.refreshToken(refreshRequest);
+        return ResponseEntity.ok(jwtResponse);
+    }
+
+    @PostMapping("/token/revoke")
+    public ResponseEntity<Void> revokeToken(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+                                            @RequestBody(required = false) RefreshTokenRequestDto revokeRequest) {
+        jwtAuthenticatorFacade.revokeTokens(authorization.replaceFirst("^Bearer ", ""), revokeRequest);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -5,6 +5,7 @@ import lombok.Builder;
 @Builder
 public record JwtResponseDto(
         String username,
-        String token
+        String token,
+        String refreshToken
 ) {
 }
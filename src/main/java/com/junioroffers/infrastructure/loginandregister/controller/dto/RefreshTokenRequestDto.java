@@ -0,0 +1,9 @@
+package com.junioroffers.infrastructure.loginandregister.controller.dto;
+
+import javax.validation.constraints.NotBlank;
+
+public record RefreshTokenRequestDto(
+        @NotBlank(message = "{refreshToken.not.blank}")
+        String refreshToken
+) {
+}
@@ -1,6 +1,9 @@
 package com.junioroffers.infrastructure.loginandregister.controller.error;
 
+import com.junioroffers.infrastructure.security.password.PasswordHashingRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -18,4 +21,11 @@ public class TokenControllerErrorHandler {
     public TokenErrorResponse handleBadCredentials() {
         return new TokenErrorResponse(BAD_CREDENTIALS, HttpStatus.UNAUTHORIZED);
     }
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<TokenErrorResponse> handlePasswordHashingRejected(PasswordHashingRejectedException exception) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, exception.getRetryAfter().toSeconds())))
+                .body(new TokenErrorResponse(exception.getMessage(), HttpStatus.TOO_MANY_REQUESTS));
+    }
 }
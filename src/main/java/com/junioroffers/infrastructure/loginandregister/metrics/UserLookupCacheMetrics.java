@@ -0,0 +1,34 @@
+package com.junioroffers.infrastructure.loginandregister.metrics;
+
+import com.junioroffers.domain.loginandregister.UserLookupCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+class UserLookupCacheMetrics implements MeterBinder {
+
+    private final UserLookupCache userLookupCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.user.cache.gets", userLookupCache, UserLookupCache::hitCount)
+                .description("User lookups by cache result")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("auth.user.cache.gets", userLookupCache, UserLookupCache::missCount)
+                .description("User lookups by cache result")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("auth.user.cache.negative.hits", userLookupCache, UserLookupCache::negativeHitCount)
+                .description("Lookups of unknown usernames served from the cache")
+                .register(registry);
+        Gauge.builder("auth.user.cache.size", userLookupCache, UserLookupCache::size)
+                .description("Approximate number of cached user lookups")
+                .register(registry);
+    }
+}
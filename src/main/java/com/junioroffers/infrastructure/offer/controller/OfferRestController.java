@@ -1,14 +1,25 @@
 package com.junioroffers.infrastructure.offer.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.junioroffers.domain.offer.OfferFacade;
+import com.junioroffers.domain.offer.dto.OfferPageResponseDto;
 import com.junioroffers.domain.offer.dto.OfferRequestDto;
 import com.junioroffers.domain.offer.dto.OfferResponseDto;
+import com.junioroffers.infrastructure.offer.controller.error.InvalidOfferCursorException;
 import lombok.AllArgsConstructor;
+import org.bson.types.ObjectId;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -17,12 +28,40 @@ import java.util.List;
 public class OfferRestController {
 
     private final OfferFacade offerFacade;
+    private final ObjectMapper objectMapper;
+
     @GetMapping
     public ResponseEntity<List<OfferResponseDto>> findAllOffers() {
         List<OfferResponseDto> allOffers = offerFacade.findAllOffers();
         return ResponseEntity.ok(allOffers);
     }
 
+    @GetMapping(params = "limit")
+    public ResponseEntity<OfferPageResponseDto> findOffersPage(@RequestParam int limit,
+                                                               @RequestParam(required = false) String after) {
+        if (after != null && !ObjectId.isValid(after)) {
+            throw new InvalidOfferCursorException(after);
+        }
+        OfferPageResponseDto offersPage = offerFacade.findOffersPage(after, limit);
+        return ResponseEntity.ok(offersPage);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllOffers() {
+        final ObjectWriter offerWriter = objectMapper.writerFor(OfferResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = offerWriter.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                offerFacade.streamAllOffers(offer -> writeNdjsonLine(offerWriter, generator, offer));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<OfferResponseDto> findOfferById(@PathVariable String id) {
         OfferResponseDto offerById = offerFacade.findOfferById(id);
@@ -34,4 +73,13 @@ public class OfferRestController {
         OfferResponseDto offerResponseDto = offerFacade.saveOffer(offerDto);
         return ResponseEntity.status(HttpStatus.CREATED).body(offerResponseDto);
     }
+
+    private void writeNdjsonLine(ObjectWriter offerWriter, JsonGenerator generator, OfferResponseDto offer) {
+        try {
+            offerWriter.writeValue(generator, offer);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
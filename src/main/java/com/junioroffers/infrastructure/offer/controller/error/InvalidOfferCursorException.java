@@ -0,0 +1,8 @@
+package com.junioroffers.infrastructure.offer.controller.error;
+
+public class InvalidOfferCursorException extends RuntimeException {
+
+    public InvalidOfferCursorException(String cursor) {
+        super(String.format("Offer cursor %s is not valid", cursor));
+    }
+}
@@ -22,6 +22,14 @@ class OfferControllerErrorHandler {
         log.error(message);
         return new OfferErrorResponse(message, HttpStatus.NOT_FOUND);
     }
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidOfferCursorException.class)
+    @ResponseBody
+    public OfferErrorResponse invalidOfferCursor(InvalidOfferCursorException exception) {
+        final String message = exception.getMessage();
+        log.warn(message);
+        return new OfferErrorResponse(message, HttpStatus.BAD_REQUEST);
+    }
     @ResponseStatus(HttpStatus.CONFLICT)
     @ExceptionHandler(DuplicateKeyException.class)
     @ResponseBody
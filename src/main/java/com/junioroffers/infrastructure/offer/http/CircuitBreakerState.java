@@ -0,0 +1,7 @@
+package com.junioroffers.infrastructure.offer.http;
+
+public enum CircuitBreakerState {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+}
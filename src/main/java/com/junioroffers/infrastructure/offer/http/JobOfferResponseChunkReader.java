@@ -0,0 +1,44 @@
+package com.junioroffers.infrastructure.offer.http;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.junioroffers.domain.offer.dto.JobOfferResponse;
+import lombok.AllArgsConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@AllArgsConstructor
+public class JobOfferResponseChunkReader {
+    private final ObjectMapper objectMapper;
+
+    public int read(InputStream inputStream, int chunkSize, Consumer<List<JobOfferResponse>> chunkConsumer) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected array of job offers");
+            }
+            int readOffers = 0;
+            List<JobOfferResponse> chunk = new ArrayList<>(chunkSize);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                chunk.add(objectMapper.readValue(parser, JobOfferResponse.class));
+                readOffers++;
+                if (chunk.size() == chunkSize) {
+                    chunkConsumer.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, "Expected job offer object");
+            }
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(chunk);
+            }
+            return readOffers;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.junioroffers.infrastructure.offer.http;
+
+import lombok.AllArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.Optional;
+
+@AllArgsConstructor
+class MongoOfferFeedValidatorsStore implements OfferFeedValidatorsStore {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<OfferFeedValidators> findBySource(String source) {
+        return Optional.ofNullable(mongoTemplate.findById(source, OfferFeedValidators.class));
+    }
+
+    @Override
+    public void save(OfferFeedValidators validators) {
+        mongoTemplate.save(validators);
+    }
+}
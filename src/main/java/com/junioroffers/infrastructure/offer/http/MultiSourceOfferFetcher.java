@@ -0,0 +1,154 @@
+package com.junioroffers.infrastructure.offer.http;
+
+import com.junioroffers.domain.offer.OfferFetchable;
+import com.junioroffers.domain.offer.dto.JobOfferResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+@Log4j2
+public class MultiSourceOfferFetcher implements OfferFetchable {
+    private static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final List<OfferSource> sources;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final ExecutorService executor;
+    private final Map<String, OfferSourceStats> lastSourceStats = new ConcurrentHashMap<>();
+
+    MultiSourceOfferFetcher(List<OfferSource> sources, MeterRegistry meterRegistry, Clock clock) {
+        this.sources = sources;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("offer-source-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newFixedThreadPool(sources.size(), threadFactory);
+    }
+
+    @Override
+    public List<JobOfferResponse> fetchOffers() {
+        final List<JobOfferResponse> offers = new ArrayList<>();
+        fetchOffers(DEFAULT_CHUNK_SIZE, offers::addAll);
+        return offers;
+    }
+
+    @Override
+    public boolean fetchOffers(int chunkSize, Consumer<List<JobOfferResponse>> chunkConsumer) {
+        final Object chunkConsumerLock = new Object();
+        final List<SourceRun> runs = sources.stream()
+                .map(source -> startSourceRun(source, chunkSize, chunkConsumer, chunkConsumerLock))
+                .toList();
+        runs.forEach(run -> awaitSourceRun(run, chunkConsumerLock));
+        if (runs.stream().allMatch(run -> run.failure != null)) {
+            throw runs.get(0).failure;
+        }
+        return runs.stream().allMatch(run -> run.failure == null && run.completeFeed);
+    }
+
+    @Override
+    public void commitFetchedOffers() {
+        sources.forEach(source -> source.fetcher().commitFetchedOffers());
+    }
+
+    public List<OfferSourceStats> getSourceStats() {
+        return List.copyOf(lastSourceStats.values());
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private SourceRun startSourceRun(OfferSource source, int chunkSize, Consumer<List<JobOfferResponse>> chunkConsumer,
+                                     Object chunkConsumerLock) {
+        final SourceRun run = new SourceRun(source, System.nanoTime());
+        run.future = executor.submit(() -> source.fetcher().fetchOffers(chunkSize, chunk -> {
+            synchronized (chunkConsumerLock) {
+                if (!run.open) {
+                    throw new CancellationException("Offer source " + source.name() + " timed out");
+                }
+                run.fetchedOffers += chunk.size();
+                chunkConsumer.accept(chunk);
+            }
+        }));
+        return run;
+    }
+
+    private void awaitSourceRun(SourceRun run, Object chunkConsumerLock) {
+        final long remainingNanos = run.source.timeout().toNanos() - (System.nanoTime() - run.startedAt);
+        try {
+            run.completeFeed = run.future.get(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS);
+            finishSourceRun(run, OfferSourceStatus.SUCCEEDED);
+        } catch (TimeoutException e) {
+            closeSourceRun(run, chunkConsumerLock);
+            run.failure = new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Offer source " + run.source.name() + " timed out");
+            finishSourceRun(run, OfferSourceStatus.TIMED_OUT);
+        } catch (ExecutionException e) {
+            run.failure = e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+            finishSourceRun(run, OfferSourceStatus.FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closeSourceRun(run, chunkConsumerLock);
+            throw new IllegalStateException("Interrupted while fetching offers from " + run.source.name(), e);
+        }
+    }
+
+    private void closeSourceRun(SourceRun run, Object chunkConsumerLock) {
+        synchronized (chunkConsumerLock) {
+            run.open = false;
+        }
+        run.future.cancel(true);
+    }
+
+    private void finishSourceRun(SourceRun run, OfferSourceStatus status) {
+        final String name = run.source.name();
+        final Duration duration = Duration.ofNanos(System.nanoTime() - run.startedAt);
+        final String error = run.failure == null ? null : run.failure.getMessage();
+        lastSourceStats.put(name, new OfferSourceStats(name, status, run.fetchedOffers, duration, Instant.now(clock), error));
+        Timer.builder("offers.source.fetch")
+                .description("Time spent fetching and ingesting offers of a single source")
+                .tag("source", name)
+                .tag("status", status.name())
+                .register(meterRegistry)
+                .record(duration);
+        meterRegistry.counter("offers.source.fetched", "source", name).increment(run.fetchedOffers);
+        if (run.failure == null) {
+            log.info("Offer source {} returned {} offers in {} ms", name, run.fetchedOffers, duration.toMillis());
+        } else {
+            log.error("Offer source {} {} after {} offers in {} ms: {}", name, status, run.fetchedOffers, duration.toMillis(), error);
+        }
+    }
+
+    private static class SourceRun {
+        private final OfferSource source;
+        private final long startedAt;
+        private Future<Boolean> future;
+        private volatile boolean open = true;
+        private int fetchedOffers;
+        private boolean completeFeed;
+        private RuntimeException failure;
+
+        SourceRun(OfferSource source, long startedAt) {
+            this.source = source;
+            this.startedAt = startedAt;
+        }
+    }
+}
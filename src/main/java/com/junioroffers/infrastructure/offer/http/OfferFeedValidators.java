@@ -0,0 +1,26 @@
+package com.junioroffers.infrastructure.offer.http;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.http.HttpHeaders;
+
+@Document("offer_feed_validators")
+public record OfferFeedValidators(
+        @Id String source,
+        String etag,
+        long lastModified,
+        String contentHash
+) {
+    static OfferFeedValidators none(String source) {
+        return new OfferFeedValidators(source, null, -1, null);
+    }
+
+    void applyTo(HttpHeaders headers) {
+        if (etag != null) {
+            headers.setIfNoneMatch(etag);
+        }
+        if (lastModified >= 0) {
+            headers.setIfModifiedSince(lastModified);
+        }
+    }
+}
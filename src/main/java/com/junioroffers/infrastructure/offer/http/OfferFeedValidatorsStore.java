@@ -0,0 +1,10 @@
+package com.junioroffers.infrastructure.offer.http;
+
+import java.util.Optional;
+
+public interface OfferFeedValidatorsStore {
+
+    Optional<OfferFeedValidators> findBySource(String source);
+
+    void save(OfferFeedValidators validators);
+}
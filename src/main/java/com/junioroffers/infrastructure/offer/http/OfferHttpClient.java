@@ -6,20 +6,39 @@ import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.util.Collections;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 @AllArgsConstructor
 @Log4j2
 public class OfferHttpClient implements OfferFetchable {
+    private static final int UNCHANGED_OFFERS = -1;
+
     private final RestTemplate restTemplate;
+    private final JobOfferResponseChunkReader chunkReader;
     private final String uri;
     private final int port;
+    private final String sourceName;
+    private final OfferFeedValidatorsStore validatorsStore;
+    private final AtomicReference<OfferFeedValidators> pendingValidators = new AtomicReference<>();
 
     @Override
     public List<JobOfferResponse> fetchOffers() {
@@ -37,14 +56,112 @@ public class OfferHttpClient implements OfferFetchable {
                 log.error("Response body was null");
                 throw new ResponseStatusException(HttpStatus.NO_CONTENT);
             }
-            log.info("Success response body returned: " + body);
+            log.info("Success response returned {} offers", body.size());
+            log.debug("Success response body returned: {}", body);
             return body;
         } catch (ResourceAccessException e) {
-            log.error("Error while fetching offers using http client: " + e.getMessage());
+            log.error("Error while fetching offers using http client: {}", e.getMessage());
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    @Override
+    public boolean fetchOffers(int chunkSize, Consumer<List<JobOfferResponse>> chunkConsumer) {
+        log.info("Started streaming offers using http client");
+        pendingValidators.set(null);
+        try {
+            String urlForService = getUrlForService("/offers");
+            final String url = UriComponentsBuilder.fromHttpUrl(urlForService).toUriString();
+            final OfferFeedValidators currentValidators = validatorsStore.findBySource(sourceName)
+                    .orElseGet(() -> OfferFeedValidators.none(sourceName));
+            final Integer readOffers = restTemplate.execute(url, HttpMethod.GET,
+                    request -> {
+                        request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+                        currentValidators.applyTo(request.getHeaders());
+                    },
+                    response -> readOffers(response, chunkSize, chunkConsumer, currentValidators));
+            if (readOffers == null || readOffers == UNCHANGED_OFFERS) {
+                return false;
+            }
+            log.info("Success response streamed {} offers", readOffers);
+            return true;
+        } catch (ResourceAccessException e) {
+            log.error("Error while streaming offers using http client: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public void commitFetchedOffers() {
+        final OfferFeedValidators validators = pendingValidators.getAndSet(null);
+        if (validators == null) {
+            return;
+        }
+        try {
+            validatorsStore.save(validators);
+        } catch (RuntimeException e) {
+            log.warn("Could not store feed validators of {}, next fetch will stream all offers: {}",
+                    sourceName, e.getMessage());
+        }
+    }
+
+    private int readOffers(ClientHttpResponse response, int chunkSize, Consumer<List<JobOfferResponse>> chunkConsumer,
+                           OfferFeedValidators currentValidators) throws IOException {
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            log.info("Offers not modified since last fetch");
+            return UNCHANGED_OFFERS;
+        }
+        if (response.getStatusCode() == HttpStatus.NO_CONTENT) {
+            log.error("Response body was null");
+            throw new ResponseStatusException(HttpStatus.NO_CONTENT);
+        }
+        final PushbackInputStream body = new PushbackInputStream(response.getBody());
+        final int firstByte = body.read();
+        if (firstByte == -1) {
+            log.error("Response body was null");
+            throw new ResponseStatusException(HttpStatus.NO_CONTENT);
+        }
+        body.unread(firstByte);
+        final String etag = response.getHeaders().getETag();
+        final long lastModified = response.getHeaders().getLastModified();
+        if (etag == null && lastModified < 0) {
+            return readOffersIfContentChanged(body, chunkSize, chunkConsumer, currentValidators);
+        }
+        final int readOffers = chunkReader.read(body, chunkSize, chunkConsumer);
+        pendingValidators.set(new OfferFeedValidators(sourceName, etag, lastModified, null));
+        return readOffers;
+    }
+
+    private int readOffersIfContentChanged(InputStream body, int chunkSize, Consumer<List<JobOfferResponse>> chunkConsumer,
+                                           OfferFeedValidators currentValidators) throws IOException {
+        final Path payload = Files.createTempFile("offers-", ".json");
+        try {
+            final MessageDigest digest = sha256();
+            Files.copy(new DigestInputStream(body, digest), payload, StandardCopyOption.REPLACE_EXISTING);
+            final String contentHash = HexFormat.of().formatHex(digest.digest());
+            if (contentHash.equals(currentValidators.contentHash())) {
+                log.info("Offers content not changed since last fetch");
+                return UNCHANGED_OFFERS;
+            }
+            final int readOffers;
+            try (InputStream payloadStream = new BufferedInputStream(Files.newInputStream(payload))) {
+                readOffers = chunkReader.read(payloadStream, chunkSize, chunkConsumer);
+            }
+            pendingValidators.set(new OfferFeedValidators(sourceName, null, -1, contentHash));
+            return readOffers;
+        } finally {
+            Files.deleteIfExists(payload);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private String getUrlForService(String service) {
         return uri + ":" + port + service;
     }
@@ -1,37 +1,158 @@
 package com.junioroffers.infrastructure.offer.http;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.junioroffers.domain.offer.OfferFetchable;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@EnableConfigurationProperties({OfferSourcesProperties.class, OfferHttpPoolProperties.class, OfferResilienceProperties.class})
 public class OfferHttpClientConfig {
+    private static final String DEFAULT_SOURCE_NAME = "default";
+    private static final Duration DEFAULT_SOURCE_TIMEOUT = Duration.ofMinutes(10);
 
     @Bean
     public RestTemplateResponseErrorHandler restTemplateResponseErrorHandler() {
         return new RestTemplateResponseErrorHandler();
     }
 
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager offerHttpConnectionManager(OfferHttpPoolProperties poolProperties) {
+        final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(poolProperties.maxTotal());
+        connectionManager.setDefaultMaxPerRoute(poolProperties.maxPerRoute());
+        connectionManager.setValidateAfterInactivity((int) poolProperties.validateAfterInactivity().toMillis());
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient offerHttpTransport(PoolingHttpClientConnectionManager offerHttpConnectionManager,
+                                                 OfferHttpPoolProperties poolProperties) {
+        final long keepAliveMillis = poolProperties.keepAlive().toMillis();
+        return HttpClients.custom()
+                .setConnectionManager(offerHttpConnectionManager)
+                .setConnectionManagerShared(true)
+                .setKeepAliveStrategy((response, context) -> {
+                    final long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(poolProperties.idleTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Bean
+    public OfferFeedValidatorsStore offerFeedValidatorsStore(MongoTemplate mongoTemplate) {
+        return new MongoOfferFeedValidatorsStore(mongoTemplate);
+    }
+
+    @Bean
+    public MeterBinder offerHttpConnectionPoolMetrics(PoolingHttpClientConnectionManager offerHttpConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(offerHttpConnectionManager, "offers");
+    }
+
     @Bean
-    public RestTemplate restTemplate(@Value("1000") long connectionTimeout,
-                                     @Value("1000") long readTimeout,
-                                     RestTemplateResponseErrorHandler restTemplateResponseErrorHandler) {
+    public RestTemplate restTemplate(@Value("${offer.http.client.config.connectionTimeout:1000}") long connectionTimeout,
+                                     @Value("${offer.http.client.config.readTimeout:1000}") long readTimeout,
+                                     RestTemplateResponseErrorHandler restTemplateResponseErrorHandler,
+                                     CloseableHttpClient offerHttpTransport,
+                                     OfferHttpPoolProperties poolProperties) {
+        return createRestTemplate(connectionTimeout, readTimeout, restTemplateResponseErrorHandler, offerHttpTransport,
+                poolProperties);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public MultiSourceOfferFetcher remoteOfferClient(OfferSourcesProperties properties,
+                                                     OfferHttpPoolProperties poolProperties,
+                                                     OfferResilienceProperties resilienceProperties,
+                                                     RestTemplateResponseErrorHandler restTemplateResponseErrorHandler,
+                                                     PoolingHttpClientConnectionManager offerHttpConnectionManager,
+                                                     CloseableHttpClient offerHttpTransport,
+                                                     OfferFeedValidatorsStore offerFeedValidatorsStore,
+                                                     ObjectMapper objectMapper,
+                                                     MeterRegistry meterRegistry,
+                                                     Clock clock,
+                                                     @Value("${offer.http.client.config.uri:http://exapmle.com}") String uri,
+                                                     @Value("${offer.http.client.config.port:5057}") int port,
+                                                     @Value("${offer.http.client.config.connectionTimeout:1000}") long connectionTimeout,
+                                                     @Value("${offer.http.client.config.readTimeout:1000}") long readTimeout) {
+        final List<OfferSourcesProperties.Source> sources = properties.sources() == null || properties.sources().isEmpty()
+                ? List.of(new OfferSourcesProperties.Source(DEFAULT_SOURCE_NAME, uri, port, connectionTimeout, readTimeout, null))
+                : properties.sources();
+        sources.stream()
+                .filter(source -> poolProperties.routes().containsKey(source.name()))
+                .forEach(source -> offerHttpConnectionManager.setMaxPerRoute(
+                        routeOf(source), poolProperties.routes().get(source.name())));
+        final List<OfferSource> offerSources = sources.stream()
+                .map(source -> new OfferSource(
+                        source.name(),
+                        resilientOfferFetcher(
+                                source.name(),
+                                offerHttpClient(
+                                        createRestTemplate(source.connectionTimeout(), source.readTimeout(),
+                                                restTemplateResponseErrorHandler, offerHttpTransport, poolProperties),
+                                        objectMapper,
+                                        offerFeedValidatorsStore,
+                                        source.name(),
+                                        source.uri(),
+                                        source.port()),
+                                resilienceProperties,
+                                meterRegistry,
+                                clock),
+                        source.timeout() == null ? DEFAULT_SOURCE_TIMEOUT : source.timeout()))
+                .toList();
+        return new MultiSourceOfferFetcher(offerSources, meterRegistry, clock);
+    }
+
+    public OfferFetchable offerHttpClient(RestTemplate restTemplate, ObjectMapper objectMapper,
+                                          OfferFeedValidatorsStore validatorsStore, String sourceName, String uri,
+                                          int port) {
+        return new OfferHttpClient(restTemplate, new JobOfferResponseChunkReader(objectMapper), uri, port, sourceName,
+                validatorsStore);
+    }
+
+    public ResilientOfferFetcher resilientOfferFetcher(String sourceName, OfferFetchable offerFetcher,
+                                                       OfferResilienceProperties resilienceProperties,
+                                                       MeterRegistry meterRegistry, Clock clock) {
+        return new ResilientOfferFetcher(sourceName, offerFetcher, resilienceProperties, meterRegistry, clock);
+    }
+
+    private RestTemplate createRestTemplate(long connectionTimeout, long readTimeout,
+                                            RestTemplateResponseErrorHandler restTemplateResponseErrorHandler,
+                                            CloseableHttpClient offerHttpTransport,
+                                            OfferHttpPoolProperties poolProperties) {
+        final HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(offerHttpTransport);
+        requestFactory.setConnectTimeout((int) connectionTimeout);
+        requestFactory.setReadTimeout((int) readTimeout);
+        requestFactory.setConnectionRequestTimeout((int) poolProperties.connectionRequestTimeout().toMillis());
         return new RestTemplateBuilder()
                 .errorHandler(restTemplateResponseErrorHandler)
-                .setConnectTimeout(Duration.ofMillis(connectionTimeout))
-                .setReadTimeout(Duration.ofMillis(readTimeout))
+                .requestFactory(() -> requestFactory)
                 .build();
     }
 
-    @Bean
-    public OfferFetchable remoteOfferClient(RestTemplate restTemplate,
-                                            @Value("${offer.http.client.config.uri:http://exapmle.com}") String uri,
-                                            @Value("${offer.http.client.config.port:5057}") int port) {
-        return new OfferHttpClient(restTemplate, uri, port);
+    private static HttpRoute routeOf(OfferSourcesProperties.Source source) {
+        final HttpHost host = HttpHost.create(source.uri() + ":" + source.port());
+        return new HttpRoute(host, null, "https".equalsIgnoreCase(host.getSchemeName()));
     }
 }
@@ -0,0 +1,21 @@
+package com.junioroffers.infrastructure.offer.http;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(value = "offer.http.client.pool")
+public record OfferHttpPoolProperties(
+        int maxTotal,
+        int maxPerRoute,
+        Duration keepAlive,
+        Duration idleTimeout,
+        Duration validateAfterInactivity,
+        Duration connectionRequestTimeout,
+        Map<String, Integer> routes
+) {
+    public OfferHttpPoolProperties {
+        routes = routes == null ? Map.of() : routes;
+    }
+}
@@ -0,0 +1,16 @@
+package com.junioroffers.infrastructure.offer.http;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(value = "offer.http.client.resilience")
+public record OfferResilienceProperties(
+        int maxAttempts,
+        Duration initialBackoff,
+        Duration maxBackoff,
+        double backoffMultiplier,
+        int failureThreshold,
+        Duration openDuration
+) {
+}
@@ -0,0 +1,12 @@
+package com.junioroffers.infrastructure.offer.http;
+
+import com.junioroffers.domain.offer.OfferFetchable;
+
+import java.time.Duration;
+
+record OfferSource(
+        String name,
+        OfferFetchable fetcher,
+        Duration timeout
+) {
+}
@@ -0,0 +1,88 @@
+package com.junioroffers.infrastructure.offer.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+@Log4j2
+class OfferSourceCircuitBreaker {
+    private final String sourceName;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private volatile CircuitBreakerState state = CircuitBreakerState.CLOSED;
+    private int consecutiveFailures;
+    private Instant openUntil = Instant.MIN;
+    private boolean halfOpenCallInFlight;
+
+    OfferSourceCircuitBreaker(String sourceName, int failureThreshold, Duration openDuration, Clock clock,
+                              MeterRegistry meterRegistry) {
+        this.sourceName = sourceName;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("offers.source.circuit.state", this, breaker -> breaker.state.ordinal())
+                .description("Circuit breaker state of an offer source (0 closed, 1 open, 2 half open)")
+                .tag("source", sourceName)
+                .register(meterRegistry);
+    }
+
+    CircuitBreakerState getState() {
+        return state;
+    }
+
+    synchronized boolean tryAcquirePermission() {
+        if (state == CircuitBreakerState.OPEN) {
+            if (clock.instant().isBefore(openUntil)) {
+                return false;
+            }
+            transitionTo(CircuitBreakerState.HALF_OPEN);
+        }
+        if (state == CircuitBreakerState.HALF_OPEN) {
+            if (halfOpenCallInFlight) {
+                return false;
+            }
+            halfOpenCallInFlight = true;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        halfOpenCallInFlight = false;
+        consecutiveFailures = 0;
+        if (state != CircuitBreakerState.CLOSED) {
+            transitionTo(CircuitBreakerState.CLOSED);
+        }
+    }
+
+    synchronized void onFailure() {
+        halfOpenCallInFlight = false;
+        consecutiveFailures++;
+        if (state == CircuitBreakerState.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            openUntil = clock.instant().plus(openDuration);
+            if (state != CircuitBreakerState.OPEN) {
+                transitionTo(CircuitBreakerState.OPEN);
+            }
+        }
+    }
+
+    synchronized void onIgnoredFailure() {
+        halfOpenCallInFlight = false;
+    }
+
+    private void transitionTo(CircuitBreakerState newState) {
+        log.warn("Circuit breaker of offer source {} changed from {} to {}", sourceName, state, newState);
+        meterRegistry.counter("offers.source.circuit.transitions",
+                        "source", sourceName,
+                        "from", state.name(),
+                        "to", newState.name())
+                .increment();
+        state = newState;
+    }
+}
@@ -0,0 +1,14 @@
+package com.junioroffers.infrastructure.offer.http;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public record OfferSourceStats(
+        String source,
+        OfferSourceStatus status,
+        int fetchedOffers,
+        Duration duration,
+        Instant finishedAt,
+        String error
+) {
+}
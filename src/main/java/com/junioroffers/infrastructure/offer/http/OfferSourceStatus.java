@@ -0,0 +1,7 @@
+package com.junioroffers.infrastructure.offer.http;
+
+public enum OfferSourceStatus {
+    SUCCEEDED,
+    FAILED,
+    TIMED_OUT
+}
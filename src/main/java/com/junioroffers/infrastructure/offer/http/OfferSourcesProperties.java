@@ -0,0 +1,21 @@
+package com.junioroffers.infrastructure.offer.http;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(value = "offer.http.client")
+public record OfferSourcesProperties(
+        List<Source> sources
+) {
+    public record Source(
+            String name,
+            String uri,
+            int port,
+            long connectionTimeout,
+            long readTimeout,
+            Duration timeout
+    ) {
+    }
+}
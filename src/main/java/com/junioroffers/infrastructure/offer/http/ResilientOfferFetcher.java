@@ -0,0 +1,110 @@
+package com.junioroffers.infrastructure.offer.http;
+
+import com.junioroffers.domain.offer.OfferFetchable;
+import com.junioroffers.domain.offer.dto.JobOfferResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+@Log4j2
+public class ResilientOfferFetcher implements OfferFetchable {
+    private final String sourceName;
+    private final OfferFetchable delegate;
+    private final OfferResilienceProperties properties;
+    private final OfferSourceCircuitBreaker circuitBreaker;
+    private final Counter retries;
+
+    ResilientOfferFetcher(String sourceName, OfferFetchable delegate, OfferResilienceProperties properties,
+                          MeterRegistry meterRegistry, Clock clock) {
+        this.sourceName = sourceName;
+        this.delegate = delegate;
+        this.properties = properties;
+        this.circuitBreaker = new OfferSourceCircuitBreaker(sourceName, properties.failureThreshold(),
+                properties.openDuration(), clock, meterRegistry);
+        this.retries = meterRegistry.counter("offers.source.retries", "source", sourceName);
+    }
+
+    @Override
+    public List<JobOfferResponse> fetchOffers() {
+        return execute(delegate::fetchOffers);
+    }
+
+    @Override
+    public boolean fetchOffers(int chunkSize, Consumer<List<JobOfferResponse>> chunkConsumer) {
+        return execute(() -> delegate.fetchOffers(chunkSize, chunkConsumer));
+    }
+
+    @Override
+    public void commitFetchedOffers() {
+        delegate.commitFetchedOffers();
+    }
+
+    public CircuitBreakerState getCircuitBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    private <T> T execute(Supplier<T> call) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Circuit breaker of offer source " + sourceName + " is open");
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                final T result = call.get();
+                circuitBreaker.onSuccess();
+                return result;
+            } catch (RuntimeException e) {
+                if (!isRetryable(e)) {
+                    circuitBreaker.onIgnoredFailure();
+                    throw e;
+                }
+                if (attempt >= properties.maxAttempts()) {
+                    circuitBreaker.onFailure();
+                    throw e;
+                }
+                final Duration backoff = backoff(attempt);
+                log.warn("Attempt {} of fetching offers from {} failed: {}, retrying in {} ms",
+                        attempt, sourceName, e.getMessage(), backoff.toMillis());
+                retries.increment();
+                if (!sleep(backoff)) {
+                    circuitBreaker.onIgnoredFailure();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Duration backoff(int attempt) {
+        final double exponentialBackoff = properties.initialBackoff().toMillis()
+                * Math.pow(properties.backoffMultiplier(), attempt - 1);
+        final long cappedBackoff = (long) Math.min(properties.maxBackoff().toMillis(), exponentialBackoff);
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cappedBackoff + 1));
+    }
+
+    private static boolean sleep(Duration backoff) {
+        try {
+            Thread.sleep(backoff.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean isRetryable(RuntimeException e) {
+        if (e instanceof ResponseStatusException responseStatusException) {
+            return responseStatusException.getStatus().is5xxServerError();
+        }
+        return e instanceof ResourceAccessException;
+    }
+}
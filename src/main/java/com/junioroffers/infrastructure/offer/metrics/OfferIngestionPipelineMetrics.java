@@ -0,0 +1,39 @@
+package com.junioroffers.infrastructure.offer.metrics;
+
+import com.junioroffers.domain.offer.OfferIngestionPipeline;
+import com.junioroffers.domain.offer.OfferIngestionStage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+class OfferIngestionPipelineMetrics implements MeterBinder {
+
+    private final OfferIngestionPipeline offerIngestionPipeline;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (OfferIngestionStage stage : OfferIngestionStage.values()) {
+            final String stageName = stage.name().toLowerCase();
+            FunctionCounter.builder("offers.ingestion.stage.processed", offerIngestionPipeline,
+                            pipeline -> pipeline.processedOffers(stage))
+                    .description("Offers processed by an ingestion pipeline stage")
+                    .tag("stage", stageName)
+                    .register(registry);
+            if (stage != OfferIngestionStage.FETCH) {
+                Gauge.builder("offers.ingestion.stage.queue.depth", offerIngestionPipeline,
+                                pipeline -> pipeline.queueDepth(stage))
+                        .description("Batches waiting in the input queue of an ingestion pipeline stage")
+                        .tag("stage", stageName)
+                        .register(registry);
+            }
+        }
+        Gauge.builder("offers.ingestion.stage.queue.capacity", offerIngestionPipeline, OfferIngestionPipeline::queueCapacity)
+                .description("Capacity of every ingestion pipeline stage queue")
+                .register(registry);
+    }
+}
@@ -0,0 +1,30 @@
+package com.junioroffers.infrastructure.offer.metrics;
+
+import com.junioroffers.domain.offer.OfferUrlFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+class OfferUrlFilterMetrics implements MeterBinder {
+
+    private final OfferUrlFilter offerUrlFilter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("offers.url.filter.memory", offerUrlFilter, OfferUrlFilter::memorySizeInBytes)
+                .description("Memory used by the offer url fingerprint filter")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        Gauge.builder("offers.url.filter.urls", offerUrlFilter, OfferUrlFilter::approximateUrlCount)
+                .description("Approximate number of offer urls added to the fingerprint filter")
+                .register(registry);
+        Gauge.builder("offers.url.filter.false.positive.rate", offerUrlFilter, OfferUrlFilter::expectedFalsePositiveRate)
+                .description("Expected false positive rate of the offer url fingerprint filter")
+                .register(registry);
+    }
+}
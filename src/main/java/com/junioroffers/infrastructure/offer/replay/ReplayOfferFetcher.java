@@ -0,0 +1,146 @@
+package com.junioroffers.infrastructure.offer.replay;
+
+import com.junioroffers.domain.offer.OfferFetchable;
+import com.junioroffers.domain.offer.dto.JobOfferResponse;
+import com.junioroffers.infrastructure.offer.http.JobOfferResponseChunkReader;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+@Log4j2
+public class ReplayOfferFetcher implements OfferFetchable {
+    private static final int DEFAULT_CHUNK_SIZE = 500;
+    private static final String REPLAY_URL_SUFFIX = "#replay-";
+
+    private final List<Path> payloads;
+    private final JobOfferResponseChunkReader chunkReader;
+    private final int scaleFactor;
+    private final double offersPerSecond;
+
+    ReplayOfferFetcher(List<Path> payloads, JobOfferResponseChunkReader chunkReader, int scaleFactor,
+                       double offersPerSecond) {
+        this.payloads = payloads;
+        this.chunkReader = chunkReader;
+        this.scaleFactor = scaleFactor;
+        this.offersPerSecond = offersPerSecond;
+    }
+
+    @Override
+    public List<JobOfferResponse> fetchOffers() {
+        final List<JobOfferResponse> offers = new ArrayList<>();
+        fetchOffers(DEFAULT_CHUNK_SIZE, offers::addAll);
+        return offers;
+    }
+
+    @Override
+    public boolean fetchOffers(int chunkSize, Consumer<List<JobOfferResponse>> chunkConsumer) {
+        final ReplayPacer pacer = new ReplayPacer(offersPerSecond, System.nanoTime());
+        int replayedOffers = 0;
+        for (Path payload : payloads) {
+            final MappedByteBuffer mappedPayload = map(payload);
+            for (int copy = 0; copy < scaleFactor; copy++) {
+                final int replayCopy = copy;
+                replayedOffers += read(mappedPayload.duplicate(), chunkSize, chunk -> {
+                    pacer.await(chunk.size());
+                    chunkConsumer.accept(replayCopy == 0 ? chunk : synthesize(chunk, replayCopy));
+                });
+            }
+        }
+        log.info("Replayed {} offers from {} payloads (scale factor: {})", replayedOffers, payloads.size(), scaleFactor);
+        return true;
+    }
+
+    private int read(ByteBuffer payload, int chunkSize, Consumer<List<JobOfferResponse>> chunkConsumer) {
+        try {
+            return chunkReader.read(new ByteBufferInputStream(payload), chunkSize, chunkConsumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MappedByteBuffer map(Path payload) {
+        try (FileChannel channel = FileChannel.open(payload, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Replay payload " + payload + " is larger than 2 GB");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<JobOfferResponse> synthesize(List<JobOfferResponse> chunk, int replayCopy) {
+        return chunk.stream()
+                .map(offer -> new JobOfferResponse(
+                        offer.title(),
+                        offer.company(),
+                        offer.salary(),
+                        offer.offerUrl() == null || offer.offerUrl().isBlank()
+                                ? offer.offerUrl()
+                                : offer.offerUrl() + REPLAY_URL_SUFFIX + replayCopy))
+                .toList();
+    }
+
+    private static class ReplayPacer {
+        private final double offersPerSecond;
+        private final long startedAt;
+        private long emittedOffers;
+
+        ReplayPacer(double offersPerSecond, long startedAt) {
+            this.offersPerSecond = offersPerSecond;
+            this.startedAt = startedAt;
+        }
+
+        void await(int offers) {
+            if (offersPerSecond <= 0) {
+                return;
+            }
+            final long dueAt = startedAt + (long) (emittedOffers * TimeUnit.SECONDS.toNanos(1) / offersPerSecond);
+            long remainingNanos;
+            while ((remainingNanos = dueAt - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(remainingNanos);
+            }
+            emittedOffers += offers;
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int readBytes = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, readBytes);
+            return readBytes;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
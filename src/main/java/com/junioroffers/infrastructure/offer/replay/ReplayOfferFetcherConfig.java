@@ -0,0 +1,27 @@
+package com.junioroffers.infrastructure.offer.replay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.junioroffers.infrastructure.offer.http.JobOfferResponseChunkReader;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.file.Path;
+
+@Configuration
+@EnableConfigurationProperties(ReplayOfferProperties.class)
+@ConditionalOnProperty(name = "offer.replay.enabled", havingValue = "true")
+public class ReplayOfferFetcherConfig {
+
+    @Bean
+    @Primary
+    public ReplayOfferFetcher replayOfferFetcher(ReplayOfferProperties properties, ObjectMapper objectMapper) {
+        return new ReplayOfferFetcher(
+                properties.payloads().stream().map(Path::of).toList(),
+                new JobOfferResponseChunkReader(objectMapper),
+                properties.scaleFactor(),
+                properties.offersPerSecond());
+    }
+}
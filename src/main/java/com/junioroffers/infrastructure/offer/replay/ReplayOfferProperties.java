@@ -0,0 +1,18 @@
+package com.junioroffers.infrastructure.offer.replay;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+@ConfigurationProperties(value = "offer.replay")
+public record ReplayOfferProperties(
+        List<String> payloads,
+        int scaleFactor,
+        double offersPerSecond
+) {
+    public ReplayOfferProperties {
+        payloads = payloads == null ? List.of() : payloads;
+        scaleFactor = scaleFactor > 0 ? scaleFactor : 1;
+        offersPerSecond = Math.max(0, offersPerSecond);
+    }
+}
@@ -1,11 +1,23 @@
 package com.junioroffers.infrastructure.offer.scheduler;
 
+import lombok.AllArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
 @Configuration
 @EnableScheduling
 @ConditionalOnProperty(name="scheduling.enabled", matchIfMissing = false)
-public class HttpOfferSchedulerConfig {
+@AllArgsConstructor
+public class HttpOfferSchedulerConfig implements SchedulingConfigurer {
+
+    private final HttpOffersScheduler httpOffersScheduler;
+    private final IngestionTrigger ingestionTrigger;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addTriggerTask(httpOffersScheduler::fetchAllOffersAndSaveAllIfNotExists, ingestionTrigger);
+    }
 }
@@ -1,14 +1,24 @@
 package com.junioroffers.infrastructure.offer.scheduler;
 
 import com.junioroffers.domain.offer.OfferFacade;
+import com.junioroffers.domain.offer.dto.OfferIngestionResultDto;
 import com.junioroffers.domain.offer.dto.OfferResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Component
 @AllArgsConstructor
@@ -16,18 +26,112 @@ import java.util.List;
 public class HttpOffersScheduler {
 
     private final OfferFacade offerFacade;
+    private final IngestionLeaseManager ingestionLeaseManager;
+    private final IngestionRunHistory ingestionRunHistory;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final TaskExecutor manualRunExecutor = new SimpleAsyncTaskExecutor("manual-offers-fetching-");
+    private final AtomicReference<CompletableFuture<IngestionRun>> runInProgress = new AtomicReference<>();
+    private final AtomicLong runSequence = new AtomicLong();
 
-    private static final String STARTED_OFFERS_FETCHING_MESSAGE = "Started offers fetching {}";
+    private static final String STARTED_OFFERS_FETCHING_MESSAGE = "Started {} offers fetching {} (fencing token: {})";
     private static final String STOPPED_OFFERS_FETCHING_MESSAGE = "Stopped offers fetching {}";
-    private static final String ADDED_NEW_OFFERS_MESSAGE = "Added new {} offers";
-    private static final SimpleDateFormat dateFormat = new SimpleDateFormat("HH:mm:ss");
-
-    @Scheduled(fixedDelayString = "${http.offers.scheduler.request.delay}")
-    public List<OfferResponseDto> fetchAllOffersAndSaveAllIfNotExists(){
-        log.info(STARTED_OFFERS_FETCHING_MESSAGE, dateFormat.format(new Date()));
-        final List<OfferResponseDto> addedOffers = offerFacade.fetchAllOffersAndSaveAllIfNotExist();
-        log.info(ADDED_NEW_OFFERS_MESSAGE, addedOffers.size());
-        log.info(STOPPED_OFFERS_FETCHING_MESSAGE, dateFormat.format(new Date()));
-        return addedOffers;
+    private static final String SKIPPED_OFFERS_FETCHING_MESSAGE = "Skipped offers fetching {}, another node is fetching offers";
+    private static final String COALESCED_OFFERS_FETCHING_MESSAGE = "Joined offers fetching already in progress {}";
+    private static final String ADDED_NEW_OFFERS_MESSAGE = "Added new {} offers (fetched: {}, updated: {}, duplicated: {}, skipped: {})";
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    public List<OfferResponseDto> fetchAllOffersAndSaveAllIfNotExists() {
+        final CompletableFuture<IngestionRun> run = new CompletableFuture<>();
+        final CompletableFuture<IngestionRun> inProgress = runInProgress.compareAndExchange(null, run);
+        if (inProgress != null) {
+            log.info(COALESCED_OFFERS_FETCHING_MESSAGE, currentTime());
+            inProgress.join();
+            return List.of();
+        }
+        return runIngestion(run, IngestionRunTrigger.SCHEDULED);
+    }
+
+    public boolean triggerIngestion() {
+        final CompletableFuture<IngestionRun> run = new CompletableFuture<>();
+        final CompletableFuture<IngestionRun> inProgress = runInProgress.compareAndExchange(null, run);
+        if (inProgress != null) {
+            log.info(COALESCED_OFFERS_FETCHING_MESSAGE, currentTime());
+            return false;
+        }
+        manualRunExecutor.execute(() -> runIngestion(run, IngestionRunTrigger.MANUAL));
+        return true;
+    }
+
+    public boolean isIngestionInProgress() {
+        return runInProgress.get() != null;
+    }
+
+    private List<OfferResponseDto> runIngestion(CompletableFuture<IngestionRun> run, IngestionRunTrigger trigger) {
+        final Instant startedAt = clock.instant();
+        IngestionRun finishedRun = null;
+        try {
+            final Optional<IngestionLease> lease = ingestionLeaseManager.tryAcquire();
+            if (lease.isEmpty()) {
+                log.info(SKIPPED_OFFERS_FETCHING_MESSAGE, currentTime());
+                finishedRun = finishedRun(trigger, IngestionRunStatus.SKIPPED, startedAt, null, null);
+                return List.of();
+            }
+            log.info(STARTED_OFFERS_FETCHING_MESSAGE, trigger, currentTime(), lease.get().fencingToken());
+            final ScheduledFuture<?> leaseHeartbeat = ingestionLeaseManager.keepAlive(lease.get());
+            try {
+                final OfferIngestionResultDto result = offerFacade.fetchAllOffersAndSaveAllIfNotExist(
+                        () -> ingestionLeaseManager.isHeld(lease.get()));
+                log.info(ADDED_NEW_OFFERS_MESSAGE, result.addedOffers().size(), result.fetchedOffers(),
+                        result.updatedOffers(), result.duplicatedOffers(), result.skippedOffers());
+                finishedRun = finishedRun(trigger, IngestionRunStatus.SUCCEEDED, startedAt, result, null);
+                return result.addedOffers();
+            } finally {
+                leaseHeartbeat.cancel(false);
+                ingestionLeaseManager.release(lease.get());
+                log.info(STOPPED_OFFERS_FETCHING_MESSAGE, currentTime());
+            }
+        } catch (RuntimeException e) {
+            finishedRun = finishedRun(trigger, IngestionRunStatus.FAILED, startedAt, null, e.getMessage());
+            throw e;
+        } finally {
+            if (finishedRun != null) {
+                ingestionRunHistory.record(finishedRun);
+                recordMetrics(finishedRun);
+            }
+            runInProgress.set(null);
+            run.complete(finishedRun);
+        }
+    }
+
+    private void recordMetrics(IngestionRun run) {
+        final String trigger = run.trigger().name().toLowerCase();
+        meterRegistry.timer("offers.ingestion.runs", "trigger", trigger, "status", run.status().name().toLowerCase())
+                .record(Duration.between(run.startedAt(), run.finishedAt()));
+        meterRegistry.counter("offers.ingestion.offers", "trigger", trigger, "result", "fetched").increment(run.fetchedOffers());
+        meterRegistry.counter("offers.ingestion.offers", "trigger", trigger, "result", "new").increment(run.addedOffers());
+        meterRegistry.counter("offers.ingestion.offers", "trigger", trigger, "result", "updated").increment(run.updatedOffers());
+        meterRegistry.counter("offers.ingestion.offers", "trigger", trigger, "result", "duplicate").increment(run.duplicatedOffers());
+        meterRegistry.counter("offers.ingestion.offers", "trigger", trigger, "result", "skipped").increment(run.skippedOffers());
+    }
+
+    private String currentTime() {
+        return TIME_FORMATTER.withZone(clock.getZone()).format(clock.instant());
+    }
+
+    private IngestionRun finishedRun(IngestionRunTrigger trigger, IngestionRunStatus status, Instant startedAt,
+                                     OfferIngestionResultDto result, String error) {
+        return new IngestionRun(
+                runSequence.incrementAndGet(),
+                trigger,
+                status,
+                startedAt,
+                clock.instant(),
+                result == null ? 0 : result.addedOffers().size(),
+                result == null ? 0 : result.fetchedOffers(),
+                result == null ? 0 : result.updatedOffers(),
+                result == null ? 0 : result.duplicatedOffers(),
+                result == null ? 0 : result.skippedOffers(),
+                error);
     }
 }
@@ -0,0 +1,16 @@
+package com.junioroffers.infrastructure.offer.scheduler;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document("scheduler_leases")
+public record IngestionLease(
+        @Id String name,
+        String owner,
+        long fencingToken,
+        Instant acquiredAt,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,31 @@
+package com.junioroffers.infrastructure.offer.scheduler;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.util.UUID;
+
+@Configuration
+@EnableConfigurationProperties(IngestionLeaseProperties.class)
+public class IngestionLeaseConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public IngestionLeaseManager ingestionLeaseManager(MongoTemplate mongoTemplate, Clock clock,
+                                                       IngestionLeaseProperties properties) {
+        return new IngestionLeaseManager(mongoTemplate, clock, properties, nodeId());
+    }
+
+    private static String nodeId() {
+        final String instanceId = UUID.randomUUID().toString();
+        try {
+            return InetAddress.getLocalHost().getHostName() + "-" + instanceId;
+        } catch (UnknownHostException e) {
+            return instanceId;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.junioroffers.infrastructure.offer.scheduler;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+@Log4j2
+public class IngestionLeaseManager {
+    private static final String OWNER = "owner";
+    private static final String FENCING_TOKEN = "fencingToken";
+    private static final String ACQUIRED_AT = "acquiredAt";
+    private static final String EXPIRES_AT = "expiresAt";
+
+    private final MongoTemplate mongoTemplate;
+    private final Clock clock;
+    private final IngestionLeaseProperties properties;
+    private final String nodeId;
+    private final ScheduledExecutorService heartbeats;
+
+    IngestionLeaseManager(MongoTemplate mongoTemplate, Clock clock, IngestionLeaseProperties properties, String nodeId) {
+        this.mongoTemplate = mongoTemplate;
+        this.clock = clock;
+        this.properties = properties;
+        this.nodeId = nodeId;
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ingestion-lease-heartbeat-");
+        threadFactory.setDaemon(true);
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    public Optional<IngestionLease> tryAcquire() {
+        final Instant now = clock.instant();
+        final Query acquirableLease = Query.query(Criteria.where("_id").is(properties.name())
+                .and(EXPIRES_AT).lte(now));
+        final Update acquire = new Update()
+                .set(OWNER, nodeId)
+                .set(ACQUIRED_AT, now)
+                .set(EXPIRES_AT, now.plus(properties.ttl()))
+                .inc(FENCING_TOKEN, 1);
+        try {
+            final IngestionLease lease = mongoTemplate.findAndModify(acquirableLease, acquire,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), IngestionLease.class);
+            log.info("Node {} acquired lease {} with fencing token {}", nodeId, properties.name(), lease.fencingToken());
+            return Optional.of(lease);
+        } catch (DuplicateKeyException e) {
+            log.info("Lease {} is held by another node", properties.name());
+            return Optional.empty();
+        }
+    }
+
+    public boolean isHeld(IngestionLease lease) {
+        final Query heldLease = Query.query(Criteria.where("_id").is(lease.name())
+                .and(OWNER).is(lease.owner())
+                .and(FENCING_TOKEN).is(lease.fencingToken())
+                .and(EXPIRES_AT).gt(clock.instant()));
+        return mongoTemplate.exists(heldLease, IngestionLease.class);
+    }
+
+    public boolean renew(IngestionLease lease) {
+        final Instant now = clock.instant();
+        final Query heldLease = Query.query(Criteria.where("_id").is(lease.name())
+                .and(OWNER).is(lease.owner())
+                .and(FENCING_TOKEN).is(lease.fencingToken())
+                .and(EXPIRES_AT).gt(now));
+        final boolean renewed = mongoTemplate.updateFirst(heldLease, Update.update(EXPIRES_AT, now.plus(properties.ttl())),
+                IngestionLease.class).getMatchedCount() > 0;
+        if (!renewed) {
+            log.warn("Lease {} with fencing token {} expired before renewal", lease.name(), lease.fencingToken());
+        }
+        return renewed;
+    }
+
+    public ScheduledFuture<?> keepAlive(IngestionLease lease) {
+        final long renewalIntervalMillis = Math.max(1, properties.ttl().toMillis() / 3);
+        return heartbeats.scheduleAtFixedRate(() -> {
+            try {
+                renew(lease);
+            } catch (RuntimeException e) {
+                log.warn("Could not renew lease {}: {}", lease.name(), e.getMessage());
+            }
+        }, renewalIntervalMillis, renewalIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        heartbeats.shutdownNow();
+    }
+
+    public void release(IngestionLease lease) {
+        final Query heldLease = Query.query(Criteria.where("_id").is(lease.name())
+                .and(OWNER).is(lease.owner())
+                .and(FENCING_TOKEN).is(lease.fencingToken()));
+        final long released = mongoTemplate.updateFirst(heldLease, Update.update(EXPIRES_AT, clock.instant()),
+                IngestionLease.class).getModifiedCount();
+        if (released == 0) {
+            log.warn("Lease {} with fencing token {} was taken over before release", lease.name(), lease.fencingToken());
+        }
+    }
+}
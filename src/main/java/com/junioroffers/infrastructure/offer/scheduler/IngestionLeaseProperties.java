@@ -0,0 +1,16 @@
+package com.junioroffers.infrastructure.offer.scheduler;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(value = "http.offers.scheduler.lease")
+public record IngestionLeaseProperties(
+        String name,
+        Duration ttl
+) {
+    public IngestionLeaseProperties {
+        name = name == null ? "offers-ingestion" : name;
+        ttl = ttl == null ? Duration.ofMinutes(30) : ttl;
+    }
+}
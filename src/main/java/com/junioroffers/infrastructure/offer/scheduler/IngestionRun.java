@@ -0,0 +1,18 @@
+package com.junioroffers.infrastructure.offer.scheduler;
+
+import java.time.Instant;
+
+public record IngestionRun(
+        long id,
+        IngestionRunTrigger trigger,
+        IngestionRunStatus status,
+        Instant startedAt,
+        Instant finishedAt,
+        int addedOffers,
+        int fetchedOffers,
+        int updatedOffers,
+        int duplicatedOffers,
+        int skippedOffers,
+        String error
+) {
+}
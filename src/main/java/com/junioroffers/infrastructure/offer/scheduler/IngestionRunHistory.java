@@ -0,0 +1,33 @@
+package com.junioroffers.infrastructure.offer.scheduler;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class IngestionRunHistory {
+    private final int capacity;
+    private final Deque<IngestionRun> runs = new ArrayDeque<>();
+
+    public IngestionRunHistory(IngestionScheduleProperties properties) {
+        this.capacity = properties.historySize();
+    }
+
+    public synchronized void record(IngestionRun run) {
+        if (runs.size() == capacity) {
+            runs.removeLast();
+        }
+        runs.addFirst(run);
+    }
+
+    public synchronized List<IngestionRun> recentRuns() {
+        return List.copyOf(runs);
+    }
+
+    public synchronized Optional<IngestionRun> lastRun() {
+        return Optional.ofNullable(runs.peekFirst());
+    }
+}
@@ -0,0 +1,7 @@
+package com.junioroffers.infrastructure.offer.scheduler;
+
+public enum IngestionRunStatus {
+    SUCCEEDED,
+    FAILED,
+    SKIPPED
+}
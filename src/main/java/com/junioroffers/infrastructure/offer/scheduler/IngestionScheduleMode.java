@@ -0,0 +1,6 @@
+package com.junioroffers.infrastructure.offer.scheduler;
+
+public enum IngestionScheduleMode {
+    FIXED,
+    ADAPTIVE
+}
@@ -0,0 +1,42 @@
+package com.junioroffers.infrastructure.offer.scheduler;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(value = "http.offers.scheduler")
+public record IngestionScheduleProperties(
+        IngestionScheduleMode mode,
+        Request request,
+        Adaptive adaptive,
+        int historySize
+) {
+    public IngestionScheduleProperties {
+        mode = mode == null ? IngestionScheduleMode.FIXED : mode;
+        request = request == null ? new Request(null) : request;
+        adaptive = adaptive == null ? new Adaptive(null, null, 0, 0) : adaptive;
+        historySize = historySize > 0 ? historySize : 50;
+    }
+
+    public record Request(
+            Duration delay
+    ) {
+        public Request {
+            delay = delay == null ? Duration.ofHours(3) : delay;
+        }
+    }
+
+    public record Adaptive(
+            Duration minDelay,
+            Duration maxDelay,
+            double backoffMultiplier,
+            int highWaterMark
+    ) {
+        public Adaptive {
+            minDelay = minDelay == null ? Duration.ofMinutes(15) : minDelay;
+            maxDelay = maxDelay == null ? Duration.ofHours(12) : maxDelay;
+            backoffMultiplier = backoffMultiplier > 1 ? backoffMultiplier : 2;
+            highWaterMark = highWaterMark > 0 ? highWaterMark : 50;
+        }
+    }
+}
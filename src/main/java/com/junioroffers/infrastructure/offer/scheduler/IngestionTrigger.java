@@ -0,0 +1,87 @@
+package com.junioroffers.infrastructure.offer.scheduler;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+@Component
+@Log4j2
+public class IngestionTrigger implements Trigger {
+    private final IngestionScheduleProperties properties;
+    private final IngestionRunHistory history;
+    private final Clock clock;
+    private volatile Duration currentDelay;
+    private volatile Instant nextRunAt;
+
+    public IngestionTrigger(IngestionScheduleProperties properties, IngestionRunHistory history, Clock clock) {
+        this.properties = properties;
+        this.history = history;
+        this.clock = clock;
+        this.currentDelay = properties.mode() == IngestionScheduleMode.ADAPTIVE
+                ? clamp(properties.request().delay())
+                : properties.request().delay();
+    }
+
+    @Override
+    public Date nextExecutionTime(TriggerContext triggerContext) {
+        final Date lastCompletion = triggerContext.lastCompletionTime();
+        if (lastCompletion == null) {
+            nextRunAt = clock.instant();
+        } else {
+            if (properties.mode() == IngestionScheduleMode.ADAPTIVE) {
+                currentDelay = adaptDelay(currentDelay);
+            }
+            nextRunAt = lastCompletion.toInstant().plus(currentDelay);
+        }
+        log.info("Next offers fetching scheduled at {} (delay: {})", nextRunAt, currentDelay);
+        return Date.from(nextRunAt);
+    }
+
+    public IngestionScheduleMode getMode() {
+        return properties.mode();
+    }
+
+    public Duration getCurrentDelay() {
+        return currentDelay;
+    }
+
+    public Instant getNextRunAt() {
+        return nextRunAt;
+    }
+
+    private Duration adaptDelay(Duration delay) {
+        return history.lastRun()
+                .filter(run -> run.status() == IngestionRunStatus.SUCCEEDED)
+                .map(run -> {
+                    if (run.addedOffers() >= properties.adaptive().highWaterMark()) {
+                        return clamp(multiply(delay, 1 / properties.adaptive().backoffMultiplier()));
+                    }
+                    if (run.addedOffers() == 0) {
+                        return clamp(multiply(delay, properties.adaptive().backoffMultiplier()));
+                    }
+                    return delay;
+                })
+                .orElse(delay);
+    }
+
+    private Duration clamp(Duration delay) {
+        final IngestionScheduleProperties.Adaptive adaptive = properties.adaptive();
+        if (delay.compareTo(adaptive.minDelay()) < 0) {
+            return adaptive.minDelay();
+        }
+        if (delay.compareTo(adaptive.maxDelay()) > 0) {
+            return adaptive.maxDelay();
+        }
+        return delay;
+    }
+
+    private static Duration multiply(Duration delay, double factor) {
+        return Duration.ofMillis((long) (delay.toMillis() * factor));
+    }
+}
@@ -0,0 +1,16 @@
+package com.junioroffers.infrastructure.offer.scheduler;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(value = "offer.retention")
+public record OfferRetentionProperties(
+        Duration notSeenFor,
+        Duration purgeInterval
+) {
+    public OfferRetentionProperties {
+        notSeenFor = notSeenFor == null ? Duration.ofDays(14) : notSeenFor;
+        purgeInterval = purgeInterval == null ? Duration.ofHours(1) : purgeInterval;
+    }
+}
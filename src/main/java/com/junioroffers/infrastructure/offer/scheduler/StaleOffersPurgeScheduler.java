@@ -0,0 +1,36 @@
+package com.junioroffers.infrastructure.offer.scheduler;
+
+import com.junioroffers.domain.offer.OfferFacade;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@AllArgsConstructor
+@Log4j2
+public class StaleOffersPurgeScheduler {
+
+    private final OfferFacade offerFacade;
+    private final OfferRetentionProperties retentionProperties;
+    private final IngestionLeaseManager ingestionLeaseManager;
+
+    @Scheduled(fixedDelayString = "${offer.retention.purge-interval:PT1H}",
+            initialDelayString = "${offer.retention.purge-interval:PT1H}")
+    public long removeStaleOffers() {
+        final Optional<IngestionLease> lease = ingestionLeaseManager.tryAcquire();
+        if (lease.isEmpty()) {
+            log.info("Skipped removing stale offers, another run holds the ingestion lease");
+            return 0;
+        }
+        try {
+            final long removedOffers = offerFacade.removeOffersNotSeenFor(retentionProperties.notSeenFor());
+            log.info("Removed {} offers not seen for {}", removedOffers, retentionProperties.notSeenFor());
+            return removedOffers;
+        } finally {
+            ingestionLeaseManager.release(lease.get());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.junioroffers.infrastructure.offer.scheduler.controller;
+
+import com.junioroffers.infrastructure.offer.scheduler.HttpOffersScheduler;
+import com.junioroffers.infrastructure.offer.scheduler.controller.dto.IngestionTriggerResponseDto;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+@Component
+@WebEndpoint(id = "ingestion")
+@AllArgsConstructor
+public class IngestionEndpoint {
+
+    private final HttpOffersScheduler httpOffersScheduler;
+
+    @WriteOperation
+    public WebEndpointResponse<IngestionTriggerResponseDto> triggerIngestion() {
+        final boolean started = httpOffersScheduler.triggerIngestion();
+        final String message = started ? "Offers fetching started" : "Offers fetching already in progress";
+        return new WebEndpointResponse<>(new IngestionTriggerResponseDto(started, message),
+                HttpStatus.ACCEPTED.value());
+    }
+}
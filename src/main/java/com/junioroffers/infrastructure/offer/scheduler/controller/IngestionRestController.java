@@ -0,0 +1,33 @@
+package com.junioroffers.infrastructure.offer.scheduler.controller;
+
+import com.junioroffers.infrastructure.offer.scheduler.HttpOffersScheduler;
+import com.junioroffers.infrastructure.offer.scheduler.IngestionRunHistory;
+import com.junioroffers.infrastructure.offer.scheduler.IngestionTrigger;
+import com.junioroffers.infrastructure.offer.scheduler.controller.dto.IngestionScheduleResponseDto;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/ingestion/runs")
+@AllArgsConstructor
+public class IngestionRestController {
+
+    private final HttpOffersScheduler httpOffersScheduler;
+    private final IngestionRunHistory ingestionRunHistory;
+    private final IngestionTrigger ingestionTrigger;
+
+    @GetMapping
+    public ResponseEntity<IngestionScheduleResponseDto> findIngestionRuns() {
+        IngestionScheduleResponseDto response = IngestionScheduleResponseDto.builder()
+                .mode(ingestionTrigger.getMode())
+                .currentDelay(ingestionTrigger.getCurrentDelay())
+                .nextRunAt(ingestionTrigger.getNextRunAt())
+                .running(httpOffersScheduler.isIngestionInProgress())
+                .runs(ingestionRunHistory.recentRuns())
+                .build();
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,19 @@
+package com.junioroffers.infrastructure.offer.scheduler.controller.dto;
+
+import com.junioroffers.infrastructure.offer.scheduler.IngestionRun;
+import com.junioroffers.infrastructure.offer.scheduler.IngestionScheduleMode;
+import lombok.Builder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Builder
+public record IngestionScheduleResponseDto(
+        IngestionScheduleMode mode,
+        Duration currentDelay,
+        Instant nextRunAt,
+        boolean running,
+        List<IngestionRun> runs
+) {
+}
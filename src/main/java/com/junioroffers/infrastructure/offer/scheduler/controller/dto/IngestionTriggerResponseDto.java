@@ -0,0 +1,7 @@
+package com.junioroffers.infrastructure.offer.scheduler.controller.dto;
+
+public record IngestionTriggerResponseDto(
+        boolean started,
+        String message
+) {
+}
@@ -1,9 +1,5 @@
 package com.junioroffers.infrastructure.security.jwt;
 
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
-import com.auth0.jwt.interfaces.DecodedJWT;
-import com.auth0.jwt.interfaces.JWTVerifier;
 import java.io.IOException;
 import java.util.Collections;
 import javax.servlet.FilterChain;
@@ -20,7 +16,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @AllArgsConstructor
 public class JwtAuthTokenFilter extends OncePerRequestFilter {
 
-    private final JwtConfigurationProperties properties;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -35,11 +31,7 @@ public class JwtAuthTokenFilter extends OncePerRequestFilter {
     }
 
     private UsernamePasswordAuthenticationToken getUsernamePasswordAuthenticationToken(String token) {
-        String secretKey = properties.secret();
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
-        JWTVerifier verifier = JWT.require(algorithm)
-                .build();
-        DecodedJWT jwt = verifier.verify(token.substring(7));
-        return new UsernamePasswordAuthenticationToken(jwt.getSubject(), null, Collections.emptyList());
+        String subject = verifiedTokenCache.verifiedSubject(token.substring(7));
+        return new UsernamePasswordAuthenticationToken(subject, null, Collections.emptyList());
     }
 }
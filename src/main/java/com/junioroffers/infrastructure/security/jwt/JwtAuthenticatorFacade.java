@@ -2,16 +2,22 @@ package com.junioroffers.infrastructure.security.jwt;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
 import com.junioroffers.infrastructure.loginandregister.controller.dto.JwtResponseDto;
+import com.junioroffers.infrastructure.loginandregister.controller.dto.RefreshTokenRequestDto;
 import com.junioroffers.infrastructure.loginandregister.controller.dto.TokenRequestDto;
 import lombok.AllArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 
 import java.time.*;
+import java.util.UUID;
 
 @AllArgsConstructor
 @Component
@@ -19,30 +25,57 @@ public class  JwtAuthenticatorFacade {
     private final AuthenticationManager authenticationManager;
     private final Clock clock;
     private final JwtConfigurationProperties properties;
+    private final Algorithm jwtAlgorithm;
+    private final RefreshTokenStore refreshTokenStore;
+    private final JWTVerifier jwtVerifier;
+    private final TokenDenyList tokenDenyList;
 
     public JwtResponseDto authenticateAndGenerateToken(TokenRequestDto loginRequest) {
         Authentication authenticate = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(loginRequest.username(), loginRequest.password()));
         User user = (User) authenticate.getPrincipal();
-        String token = createToken(user);
-        String username = user.getUsername();
+        return createTokens(user.getUsername());
+    }
+
+    public JwtResponseDto refreshToken(RefreshTokenRequestDto refreshRequest) {
+        String username = refreshTokenStore.consume(refreshRequest.refreshToken())
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        return createTokens(username);
+    }
+
+    public void revokeTokens(String accessToken, RefreshTokenRequestDto refreshRequest) {
+        DecodedJWT jwt;
+        try {
+            jwt = jwtVerifier.verify(accessToken);
+        } catch (JWTVerificationException e) {
+            throw new BadCredentialsException("Invalid access token");
+        }
+        if (jwt.getId() != null) {
+            tokenDenyList.revoke(jwt.getId(), jwt.getExpiresAtAsInstant());
+        }
+        if (refreshRequest != null && refreshRequest.refreshToken() != null) {
+            refreshTokenStore.consume(refreshRequest.refreshToken());
+        }
+    }
+
+    private JwtResponseDto createTokens(String username) {
         return JwtResponseDto.builder()
-                .token(token)
+                .token(createToken(username))
+                .refreshToken(refreshTokenStore.issue(username))
                 .username(username)
                 .build();
     }
 
-    private String createToken(User user) {
-        String secretKey = properties.secret();
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
+    private String createToken(String username) {
         Instant now = LocalDateTime.now(clock).toInstant(ZoneOffset.UTC);
-        Instant expiresAt = now.plus(Duration.ofDays(properties.expirationDays()));
+        Instant expiresAt = now.plus(properties.accessTokenTtl());
         String issuer = properties.issuer();
         return JWT.create()
-                .withSubject(user.getUsername())
+                .withJWTId(UUID.randomUUID().toString())
+                .withSubject(username)
                 .withIssuedAt(now)
                 .withExpiresAt(expiresAt)
                 .withIssuer(issuer)
-                .sign(algorithm);
+                .sign(jwtAlgorithm);
     }
 }
@@ -0,0 +1,43 @@
+package com.junioroffers.infrastructure.security.jwt;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.JWTVerifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Clock;
+
+@Configuration
+public class JwtConfiguration {
+
+    @Bean
+    public Algorithm jwtAlgorithm(JwtConfigurationProperties properties) {
+        return Algorithm.HMAC256(properties.secret());
+    }
+
+    @Bean
+    public JWTVerifier jwtVerifier(Algorithm jwtAlgorithm, MeterRegistry meterRegistry) {
+        return new TimedJwtVerifier(JWT.require(jwtAlgorithm)
+                .build(), meterRegistry);
+    }
+
+    @Bean
+    public TokenDenyList tokenDenyList(Clock clock) {
+        return new TokenDenyList(clock);
+    }
+
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache(JWTVerifier jwtVerifier, TokenDenyList tokenDenyList,
+                                                 JwtConfigurationProperties properties, Clock clock) {
+        return new VerifiedTokenCache(jwtVerifier, tokenDenyList, properties.verifiedTokenCacheSize(), clock);
+    }
+
+    @Bean
+    public RefreshTokenStore refreshTokenStore(MongoTemplate mongoTemplate, Clock clock,
+                                               JwtConfigurationProperties properties) {
+        return new RefreshTokenStore(mongoTemplate, clock, properties);
+    }
+}
@@ -2,10 +2,19 @@ package com.junioroffers.infrastructure.security.jwt;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @ConfigurationProperties(value = "auth.jwt")
 public record JwtConfigurationProperties(
         String secret,
-        long expirationDays,
-        String issuer
+        Duration accessTokenTtl,
+        Duration refreshTokenTtl,
+        String issuer,
+        long verifiedTokenCacheSize
 ) {
+    public JwtConfigurationProperties {
+        accessTokenTtl = accessTokenTtl != null ? accessTokenTtl : Duration.ofMinutes(15);
+        refreshTokenTtl = refreshTokenTtl != null ? refreshTokenTtl : Duration.ofDays(30);
+        verifiedTokenCacheSize = verifiedTokenCacheSize > 0 ? verifiedTokenCacheSize : 10_000;
+    }
 }
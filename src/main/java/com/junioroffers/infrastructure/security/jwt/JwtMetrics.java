@@ -0,0 +1,34 @@
+package com.junioroffers.infrastructure.security.jwt;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+class JwtMetrics implements MeterBinder {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenDenyList tokenDenyList;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.jwt.cache.gets", verifiedTokenCache, VerifiedTokenCache::hitCount)
+                .description("Token verifications by verified token cache result")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("auth.jwt.cache.gets", verifiedTokenCache, VerifiedTokenCache::missCount)
+                .description("Token verifications by verified token cache result")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("auth.jwt.cache.size", verifiedTokenCache, VerifiedTokenCache::size)
+                .description("Approximate number of cached verified tokens")
+                .register(registry);
+        Gauge.builder("auth.jwt.revoked.tokens", tokenDenyList, TokenDenyList::size)
+                .description("Revoked tokens held in the deny list until they expire")
+                .register(registry);
+    }
+}
@@ -6,10 +6,11 @@ import java.util.Collections;
 import lombok.AllArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 @AllArgsConstructor
-public class LoginUserDetailsService implements UserDetailsService {
+public class LoginUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final LoginAndRegisterFacade loginAndRegisterFacade;
 
@@ -19,6 +20,12 @@ public class LoginUserDetailsService implements UserDetailsService {
         return getUser(userDto);
     }
 
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserDto userDto = loginAndRegisterFacade.updatePassword(user.getUsername(), newPassword);
+        return getUser(userDto);
+    }
+
     private org.springframework.security.core.userdetails.User getUser(UserDto user) {
         return new org.springframework.security.core.userdetails.User(
                 user.username(),
@@ -0,0 +1,29 @@
+package com.junioroffers.infrastructure.security.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Clock;
+
+@Configuration
+@ConditionalOnProperty(value = "spring.cache.type", havingValue = "redis")
+class RedisTokenRevocationConfiguration {
+
+    @Bean(initMethod = "start")
+    RedisTokenRevocationSync redisTokenRevocationSync(RedisConnectionFactory redisConnectionFactory,
+                                                      RedisMessageListenerContainer redisMessageListenerContainer,
+                                                      TokenDenyList tokenDenyList, Clock clock,
+                                                      @Value("${auth.jwt.revocation.key:auth:revoked-tokens}") String key,
+                                                      @Value("${auth.jwt.revocation.channel:auth:token-revocation}") String channel) {
+        RedisTokenRevocationSync redisTokenRevocationSync = new RedisTokenRevocationSync(
+                new StringRedisTemplate(redisConnectionFactory), tokenDenyList, clock, key, channel);
+        redisMessageListenerContainer.addMessageListener(redisTokenRevocationSync, new ChannelTopic(channel));
+        return redisTokenRevocationSync;
+    }
+}
@@ -0,0 +1,80 @@
+package com.junioroffers.infrastructure.security.jwt;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+@Log4j2
+class RedisTokenRevocationSync implements MessageListener {
+    private final StringRedisTemplate redisTemplate;
+    private final TokenDenyList tokenDenyList;
+    private final Clock clock;
+    private final String key;
+    private final String channel;
+
+    RedisTokenRevocationSync(StringRedisTemplate redisTemplate, TokenDenyList tokenDenyList, Clock clock,
+                             String key, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.tokenDenyList = tokenDenyList;
+        this.clock = clock;
+        this.key = key;
+        this.channel = channel;
+    }
+
+    void start() {
+        tokenDenyList.register(this::publish);
+        synchronize();
+    }
+
+    @Scheduled(fixedDelayString = "${auth.jwt.revocation.sync-interval:PT1M}",
+            initialDelayString = "${auth.jwt.revocation.sync-interval:PT1M}")
+    public void synchronize() {
+        final long now = clock.millis();
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, now);
+            final Set<ZSetOperations.TypedTuple<String>> revokedTokens =
+                    redisTemplate.opsForZSet().rangeByScoreWithScores(key, now, Double.POSITIVE_INFINITY);
+            if (revokedTokens != null) {
+                tokenDenyList.addAll(revokedTokens.stream()
+                        .filter(revokedToken -> revokedToken.getValue() != null && revokedToken.getScore() != null)
+                        .map(revokedToken -> new RevokedToken(revokedToken.getValue(),
+                                Instant.ofEpochMilli(revokedToken.getScore().longValue())))
+                        .toList());
+            }
+        } catch (RuntimeException e) {
+            log.error("Could not synchronize revoked tokens from {}: {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        final String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        final int separator = body.lastIndexOf('|');
+        try {
+            final RevokedToken revokedToken = new RevokedToken(body.substring(0, separator),
+                    Instant.ofEpochMilli(Long.parseLong(body.substring(separator + 1))));
+            tokenDenyList.addAll(List.of(revokedToken));
+        } catch (RuntimeException e) {
+            log.warn("Ignored token revocation event: {}", body);
+        }
+    }
+
+    private void publish(RevokedToken revokedToken) {
+        final long expiresAt = revokedToken.expiresAt().toEpochMilli();
+        try {
+            redisTemplate.opsForZSet().add(key, revokedToken.tokenId(), expiresAt);
+            redisTemplate.convertAndSend(channel, revokedToken.tokenId() + "|" + expiresAt);
+        } catch (RuntimeException e) {
+            log.error("Could not publish revocation of token {}: {}", revokedToken.tokenId(), e.getMessage());
+        }
+    }
+}
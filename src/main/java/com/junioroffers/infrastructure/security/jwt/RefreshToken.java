@@ -0,0 +1,15 @@
+package com.junioroffers.infrastructure.security.jwt;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document("refresh_tokens")
+record RefreshToken(
+        @Id String tokenHash,
+        @Indexed String username,
+        Instant issuedAt,
+        @Indexed(expireAfter = "0s") Instant expiresAt) {
+}
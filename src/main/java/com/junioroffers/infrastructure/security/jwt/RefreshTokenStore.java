@@ -0,0 +1,55 @@
+package com.junioroffers.infrastructure.security.jwt;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+public class RefreshTokenStore {
+    private static final int TOKEN_BYTES = 32;
+    private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final MongoTemplate mongoTemplate;
+    private final Clock clock;
+    private final JwtConfigurationProperties properties;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    RefreshTokenStore(MongoTemplate mongoTemplate, Clock clock, JwtConfigurationProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.clock = clock;
+        this.properties = properties;
+    }
+
+    public String issue(String username) {
+        final byte[] tokenBytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(tokenBytes);
+        final String token = TOKEN_ENCODER.encodeToString(tokenBytes);
+        final Instant now = clock.instant();
+        mongoTemplate.insert(new RefreshToken(hash(token), username, now, now.plus(properties.refreshTokenTtl())));
+        return token;
+    }
+
+    public Optional<String> consume(String token) {
+        final Query activeToken = Query.query(Criteria.where("_id").is(hash(token))
+                .and("expiresAt").gt(clock.instant()));
+        return Optional.ofNullable(mongoTemplate.findAndRemove(activeToken, RefreshToken.class))
+                .map(RefreshToken::username);
+    }
+
+    private static String hash(String token) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return TOKEN_ENCODER.encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.junioroffers.infrastructure.security.jwt;
+
+import java.time.Instant;
+
+record RevokedToken(String tokenId, Instant expiresAt) {
+}
@@ -1,24 +1,27 @@
 package com.junioroffers.infrastructure.security.jwt;
 
 import com.junioroffers.domain.loginandregister.LoginAndRegisterFacade;
+import com.junioroffers.infrastructure.security.ratelimit.RateLimitFilter;
 import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 @Configuration
 @AllArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthTokenFilter jwtAuthTokenFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
@@ -26,17 +29,15 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
-    @Bean
-    public UserDetailsService userDetailsService(LoginAndRegisterFacade loginAndRegisterFacade) {
+    public LoginUserDetailsService userDetailsService(LoginAndRegisterFacade loginAndRegisterFacade) {
         return new LoginUserDetailsService(loginAndRegisterFacade);
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity,
+                                                   @Value("${server.port:8080}") int serverPort,
+                                                   @Value("${management.server.port:-1}") int managementPort)
+            throws Exception {
         httpSecurity.csrf().disable();
         httpSecurity.authorizeRequests()
                 .antMatchers("/swagger-ui/**").permitAll()
@@ -45,6 +46,12 @@ public class SecurityConfig {
                 .antMatchers("/token/**").permitAll()
                 .antMatchers("/register/**").permitAll()
                 .antMatchers("/swagger-resources/**").permitAll()
+                .antMatchers("/actuator/health").permitAll()
+                .requestMatchers(new AndRequestMatcher(new AntPathRequestMatcher("/actuator/prometheus"),
+                        managementPortRequest(serverPort, managementPort))).permitAll()
+                .requestMatchers(new AndRequestMatcher(new AntPathRequestMatcher("/actuator/ingestion"),
+                        managementPortRequest(serverPort, managementPort))).permitAll()
+                .antMatchers("/actuator/ingestion").denyAll()
                 .anyRequest().authenticated()
                 .and()
                 .headers().frameOptions().disable()
@@ -53,8 +60,13 @@ public class SecurityConfig {
                 .and()
                 .exceptionHandling()
                 .and()
-                .addFilterBefore(jwtAuthTokenFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthTokenFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, UsernamePasswordAuthenticationFilter.class);
         return httpSecurity.build();
     }
 
+    private static RequestMatcher managementPortRequest(int serverPort, int managementPort) {
+        return request -> managementPort > 0 && managementPort != serverPort && request.getLocalPort() == managementPort;
+    }
+
 }
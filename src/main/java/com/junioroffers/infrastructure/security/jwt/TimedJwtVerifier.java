@@ -0,0 +1,51 @@
+package com.junioroffers.infrastructure.security.jwt;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+class TimedJwtVerifier implements JWTVerifier {
+    private final JWTVerifier delegate;
+    private final Timer validTokens;
+    private final Timer invalidTokens;
+
+    TimedJwtVerifier(JWTVerifier delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.validTokens = verificationTimer("valid", meterRegistry);
+        this.invalidTokens = verificationTimer("invalid", meterRegistry);
+    }
+
+    @Override
+    public DecodedJWT verify(String token) throws JWTVerificationException {
+        return timed(() -> delegate.verify(token));
+    }
+
+    @Override
+    public DecodedJWT verify(DecodedJWT jwt) throws JWTVerificationException {
+        return timed(() -> delegate.verify(jwt));
+    }
+
+    private DecodedJWT timed(Supplier<DecodedJWT> verification) {
+        final long start = System.nanoTime();
+        try {
+            final DecodedJWT verifiedJwt = verification.get();
+            validTokens.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return verifiedJwt;
+        } catch (JWTVerificationException e) {
+            invalidTokens.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private static Timer verificationTimer(String result, MeterRegistry meterRegistry) {
+        return Timer.builder("auth.jwt.verification")
+                .description("Latency of JWT signature and claims verification")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,116 @@
+package com.junioroffers.infrastructure.security.jwt;
+
+import com.junioroffers.domain.hashing.Fnv1aHash;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class TokenDenyList {
+    private static final int BLOOM_BITS_PER_TOKEN = 16;
+    private static final int BLOOM_HASHES = 4;
+
+    private final Clock clock;
+    private volatile Snapshot snapshot = Snapshot.of(Map.of());
+    private volatile Consumer<RevokedToken> revocationListener = revokedToken -> {
+    };
+
+    TokenDenyList(Clock clock) {
+        this.clock = clock;
+    }
+
+    void register(Consumer<RevokedToken> revocationListener) {
+        this.revocationListener = revocationListener;
+    }
+
+    public void revoke(String tokenId, Instant expiresAt) {
+        final RevokedToken revokedToken = new RevokedToken(tokenId, expiresAt);
+        addAll(List.of(revokedToken));
+        revocationListener.accept(revokedToken);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        final Snapshot current = snapshot;
+        return current.mightContain(tokenId) && current.revokedTokens().containsKey(tokenId);
+    }
+
+    public int size() {
+        return snapshot.revokedTokens().size();
+    }
+
+    synchronized void addAll(Collection<RevokedToken> revokedTokens) {
+        final Instant now = clock.instant();
+        final Map<String, Instant> updatedTokens = new HashMap<>(snapshot.revokedTokens());
+        boolean changed = false;
+        for (RevokedToken revokedToken : revokedTokens) {
+            if (revokedToken.expiresAt().isAfter(now)) {
+                updatedTokens.merge(revokedToken.tokenId(), revokedToken.expiresAt(),
+                        (previous, added) -> previous.isAfter(added) ? previous : added);
+                changed = true;
+            }
+        }
+        if (changed) {
+            snapshot = Snapshot.of(updatedTokens);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.jwt.revocation.prune-interval:PT1M}",
+            initialDelayString = "${auth.jwt.revocation.prune-interval:PT1M}")
+    public synchronized int prune() {
+        final Instant now = clock.instant();
+        final Map<String, Instant> activeTokens = new HashMap<>(snapshot.revokedTokens());
+        final int sizeBefore = activeTokens.size();
+        activeTokens.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        final int prunedTokens = sizeBefore - activeTokens.size();
+        if (prunedTokens > 0) {
+            snapshot = Snapshot.of(activeTokens);
+        }
+        return prunedTokens;
+    }
+
+    private record Snapshot(long[] bloomFilter, int bloomMask, Map<String, Instant> revokedTokens) {
+
+        static Snapshot of(Map<String, Instant> revokedTokens) {
+            final int bloomBits = Math.max(Long.SIZE,
+                    Integer.highestOneBit(Math.max(1, revokedTokens.size() * BLOOM_BITS_PER_TOKEN)) << 1);
+            final long[] bloomFilter = new long[bloomBits / Long.SIZE];
+            final int bloomMask = bloomBits - 1;
+            for (String tokenId : revokedTokens.keySet()) {
+                final long hash = Fnv1aHash.of(tokenId);
+                for (int i = 0; i < BLOOM_HASHES; i++) {
+                    final int bit = bloomBit(hash, i, bloomMask);
+                    bloomFilter[bit >>> 6] |= 1L << bit;
+                }
+            }
+            return new Snapshot(bloomFilter, bloomMask, Map.copyOf(revokedTokens));
+        }
+
+        boolean mightContain(String tokenId) {
+            if (revokedTokens.isEmpty()) {
+                return false;
+            }
+            final long hash = Fnv1aHash.of(tokenId);
+            for (int i = 0; i < BLOOM_HASHES; i++) {
+                final int bit = bloomBit(hash, i, bloomMask);
+                if ((bloomFilter[bit >>> 6] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int bloomBit(long hash, int i, int bloomMask) {
+            final int firstHash = (int) hash;
+            final int secondHash = (int) (hash >>> 32) | 1;
+            return (firstHash + i * secondHash) & bloomMask;
+        }
+    }
+}
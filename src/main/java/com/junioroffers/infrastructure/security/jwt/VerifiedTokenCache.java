@@ -0,0 +1,108 @@
+package com.junioroffers.infrastructure.security.jwt;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+public class VerifiedTokenCache {
+    private static final Duration MAXIMUM_TIME_TO_LIVE = Duration.ofDays(365);
+
+    private final JWTVerifier jwtVerifier;
+    private final TokenDenyList tokenDenyList;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Clock clock;
+
+    VerifiedTokenCache(JWTVerifier jwtVerifier, TokenDenyList tokenDenyList, long maximumSize, Clock clock) {
+        this.jwtVerifier = jwtVerifier;
+        this.tokenDenyList = tokenDenyList;
+        this.clock = clock;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+                        return timeToExpiry(token);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime,
+                                                  long currentDuration) {
+                        return timeToExpiry(token);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, VerifiedToken token, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public String verifiedSubject(String token) {
+        final String digest = digest(token);
+        final VerifiedToken cachedToken = verifiedTokens.getIfPresent(digest);
+        if (cachedToken != null && isNotExpired(cachedToken)) {
+            return notRevoked(cachedToken).subject();
+        }
+        final DecodedJWT jwt = jwtVerifier.verify(token);
+        final Instant maximumExpiresAt = clock.instant().plus(MAXIMUM_TIME_TO_LIVE);
+        final Instant expiresAt = jwt.getExpiresAtAsInstant() == null || jwt.getExpiresAtAsInstant().isAfter(maximumExpiresAt)
+                ? maximumExpiresAt
+                : jwt.getExpiresAtAsInstant();
+        final VerifiedToken verifiedToken = new VerifiedToken(jwt.getSubject(), jwt.getId(), expiresAt);
+        verifiedTokens.put(digest, verifiedToken);
+        return notRevoked(verifiedToken).subject();
+    }
+
+    public long hitCount() {
+        return verifiedTokens.stats().hitCount();
+    }
+
+    public long missCount() {
+        return verifiedTokens.stats().missCount();
+    }
+
+    public long size() {
+        return verifiedTokens.estimatedSize();
+    }
+
+    private VerifiedToken notRevoked(VerifiedToken token) {
+        if (tokenDenyList.isRevoked(token.tokenId())) {
+            throw new JWTVerificationException("The Token has been revoked.");
+        }
+        return token;
+    }
+
+    private boolean isNotExpired(VerifiedToken token) {
+        return token.expiresAt().isAfter(clock.instant());
+    }
+
+    private long timeToExpiry(VerifiedToken token) {
+        return Math.max(0, Duration.between(clock.instant(), token.expiresAt()).toNanos());
+    }
+
+    private static String digest(String token) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(String subject, String tokenId, Instant expiresAt) {
+    }
+}
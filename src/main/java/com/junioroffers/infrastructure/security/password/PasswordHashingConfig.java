@@ -0,0 +1,16 @@
+package com.junioroffers.infrastructure.security.password;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PasswordHashingProperties.class)
+public class PasswordHashingConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public OffloadedPasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        return new OffloadedPasswordEncoder(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,22 @@
+package com.junioroffers.infrastructure.security.password;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(value = "auth.password")
+public record PasswordHashingProperties(
+        int strength,
+        int poolSize,
+        int queueCapacity,
+        Duration timeout,
+        Duration retryAfter
+) {
+    public PasswordHashingProperties {
+        strength = strength > 0 ? strength : 10;
+        poolSize = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        queueCapacity = queueCapacity > 0 ? queueCapacity : 32;
+        timeout = timeout == null ? Duration.ofSeconds(5) : timeout;
+        retryAfter = retryAfter == null ? Duration.ofSeconds(1) : retryAfter;
+    }
+}
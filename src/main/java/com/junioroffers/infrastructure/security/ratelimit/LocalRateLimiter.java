@@ -0,0 +1,48 @@
+package com.junioroffers.infrastructure.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+class LocalRateLimiter implements RateLimiter {
+    private final Cache<String, AtomicLong> theoreticalArrivalTimes;
+    private final Clock clock;
+
+    LocalRateLimiter(RateLimitProperties properties, Clock clock) {
+        this.clock = clock;
+        final long longestPeriodNanos = properties.rules().stream()
+                .mapToLong(rule -> rule.period().toNanos())
+                .max()
+                .orElse(0);
+        this.theoreticalArrivalTimes = Caffeine.newBuilder()
+                .maximumSize(properties.maximumBuckets())
+                .expireAfterAccess(Math.max(properties.idleTimeout().toNanos(), longestPeriodNanos), TimeUnit.NANOSECONDS)
+                .build();
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, RateLimitRule rule) {
+        final long now = TimeUnit.MILLISECONDS.toNanos(clock.millis());
+        final long emissionInterval = rule.emissionIntervalNanos();
+        final AtomicLong theoreticalArrivalTime = theoreticalArrivalTimes.get(key, bucketKey -> new AtomicLong(now));
+        while (true) {
+            final long observed = theoreticalArrivalTime.get();
+            final long current = Math.max(observed, now);
+            final long next = current + emissionInterval;
+            final long retryAfter = next - now - rule.burstToleranceNanos();
+            if (retryAfter > 0) {
+                return RateLimitDecision.rejected(rule, current - now, retryAfter);
+            }
+            if (theoreticalArrivalTime.compareAndSet(observed, next)) {
+                return RateLimitDecision.allowed(rule, next - now);
+            }
+        }
+    }
+
+    long bucketCount() {
+        return theoreticalArrivalTimes.estimatedSize();
+    }
+}
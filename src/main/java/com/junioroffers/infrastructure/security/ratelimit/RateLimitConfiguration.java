@@ -0,0 +1,45 @@
+package com.junioroffers.infrastructure.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfiguration {
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimitProperties properties, Clock clock, ObjectMapper objectMapper,
+                                           MeterRegistry meterRegistry,
+                                           ObjectProvider<RedisConnectionFactory> redisConnectionFactory) {
+        final LocalRateLimiter localRateLimiter = new LocalRateLimiter(properties, clock);
+        meterRegistry.gauge("http.rate-limit.buckets", localRateLimiter, LocalRateLimiter::bucketCount);
+        final List<RateLimitRule> rules = properties.enabled() ? properties.rules() : List.of();
+        if (!properties.redis()) {
+            return new RateLimitFilter(localRateLimiter, rules, objectMapper, meterRegistry);
+        }
+        final RedisConnectionFactory connectionFactory = redisConnectionFactory.getIfAvailable();
+        if (connectionFactory == null) {
+            throw new IllegalStateException("rate-limit.redis is enabled but no Redis connection is configured");
+        }
+        final RedisRateLimiter redisRateLimiter = new RedisRateLimiter(new StringRedisTemplate(connectionFactory),
+                properties.redisKeyPrefix(), localRateLimiter);
+        return new RateLimitFilter(redisRateLimiter, rules, objectMapper, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        final FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
@@ -0,0 +1,18 @@
+package com.junioroffers.infrastructure.security.ratelimit;
+
+record RateLimitDecision(
+        boolean allowed,
+        long limit,
+        long remaining,
+        long resetAfterNanos,
+        long retryAfterNanos
+) {
+    static RateLimitDecision allowed(RateLimitRule rule, long resetAfterNanos) {
+        final long remaining = (rule.burstToleranceNanos() - resetAfterNanos) / rule.emissionIntervalNanos();
+        return new RateLimitDecision(true, rule.capacity(), Math.max(0, remaining), resetAfterNanos, 0);
+    }
+
+    static RateLimitDecision rejected(RateLimitRule rule, long resetAfterNanos, long retryAfterNanos) {
+        return new RateLimitDecision(false, rule.capacity(), 0, resetAfterNanos, retryAfterNanos);
+    }
+}
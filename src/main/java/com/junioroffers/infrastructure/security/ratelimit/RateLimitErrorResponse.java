@@ -0,0 +1,8 @@
+package com.junioroffers.infrastructure.security.ratelimit;
+
+import org.springframework.http.HttpStatus;
+
+public record RateLimitErrorResponse(
+        String message,
+        HttpStatus status) {
+}
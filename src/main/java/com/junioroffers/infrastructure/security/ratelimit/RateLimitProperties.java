@@ -0,0 +1,23 @@
+package com.junioroffers.infrastructure.security.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(value = "rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        boolean redis,
+        String redisKeyPrefix,
+        Duration idleTimeout,
+        long maximumBuckets,
+        List<RateLimitRule> rules
+) {
+    public RateLimitProperties {
+        redisKeyPrefix = redisKeyPrefix == null ? "rate-limit:" : redisKeyPrefix;
+        idleTimeout = idleTimeout == null ? Duration.ofMinutes(10) : idleTimeout;
+        maximumBuckets = maximumBuckets > 0 ? maximumBuckets : 100_000;
+        rules = rules == null ? List.of() : List.copyOf(rules);
+    }
+}
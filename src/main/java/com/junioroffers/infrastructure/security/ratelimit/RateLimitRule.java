@@ -0,0 +1,26 @@
+package com.junioroffers.infrastructure.security.ratelimit;
+
+import java.time.Duration;
+
+public record RateLimitRule(
+        String name,
+        String method,
+        String path,
+        long capacity,
+        Duration period
+) {
+    public RateLimitRule {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Rate limit capacity of rule " + name + " must be positive");
+        }
+        period = period == null ? Duration.ofMinutes(1) : period;
+    }
+
+    long emissionIntervalNanos() {
+        return Math.max(1, period.toNanos() / capacity);
+    }
+
+    long burstToleranceNanos() {
+        return emissionIntervalNanos() * capacity;
+    }
+}
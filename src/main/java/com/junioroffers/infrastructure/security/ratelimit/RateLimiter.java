@@ -0,0 +1,6 @@
+package com.junioroffers.infrastructure.security.ratelimit;
+
+interface RateLimiter {
+
+    RateLimitDecision tryAcquire(String key, RateLimitRule rule);
+}
@@ -0,0 +1,73 @@
+package com.junioroffers.infrastructure.security.ratelimit;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Log4j2
+class RedisRateLimiter implements RateLimiter {
+    private static final RedisScript<List<Long>> GCRA_SCRIPT = listScript("""
+            local emission_interval = tonumber(ARGV[1])
+            local burst_tolerance = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then
+                tat = now
+            end
+            local next_tat = tat + emission_interval
+            local retry_after = next_tat - now - burst_tolerance
+            if retry_after > 0 then
+                return {0, tat - now, retry_after}
+            end
+            redis.call('SET', KEYS[1], string.format('%d', next_tat), 'PX', math.ceil((next_tat - now) / 1000))
+            return {1, next_tat - now, 0}
+            """);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final RateLimiter fallback;
+    private final AtomicBoolean redisAvailable = new AtomicBoolean(true);
+
+    RedisRateLimiter(StringRedisTemplate redisTemplate, String keyPrefix, RateLimiter fallback) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, RateLimitRule rule) {
+        final List<Long> result;
+        try {
+            result = redisTemplate.execute(GCRA_SCRIPT, List.of(keyPrefix + key),
+                    String.valueOf(TimeUnit.NANOSECONDS.toMicros(rule.emissionIntervalNanos())),
+                    String.valueOf(TimeUnit.NANOSECONDS.toMicros(rule.burstToleranceNanos())));
+        } catch (RuntimeException e) {
+            if (redisAvailable.compareAndSet(true, false)) {
+                log.warn("Could not check rate limits in Redis, falling back to local limits: {}", e.getMessage());
+            }
+            return fallback.tryAcquire(key, rule);
+        }
+        if (redisAvailable.compareAndSet(false, true)) {
+            log.info("Redis rate limits available again");
+        }
+        if (result == null || result.size() != 3) {
+            return fallback.tryAcquire(key, rule);
+        }
+        final long resetAfter = TimeUnit.MICROSECONDS.toNanos(result.get(1));
+        if (result.get(0) == 1) {
+            return RateLimitDecision.allowed(rule, resetAfter);
+        }
+        return RateLimitDecision.rejected(rule, resetAfter, TimeUnit.MICROSECONDS.toNanos(result.get(2)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisScript<List<Long>> listScript(String script) {
+        return (RedisScript<List<Long>>) (RedisScript<?>) new DefaultRedisScript<>(script, List.class);
+    }
+}
@@ -23,9 +23,9 @@ public class InMemoryLoginRepository implements LoginRepository {
 
     @Override
     public User save(User entity) {
-        UUID id = UUID.randomUUID();
+        String id = entity.id() == null ? UUID.randomUUID().toString() : entity.id();
         User user = new User(
-                id.toString(),
+                id,
                 entity.username(),
                 entity.password()
         );
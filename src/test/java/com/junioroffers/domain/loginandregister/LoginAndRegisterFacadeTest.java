@@ -8,14 +8,18 @@ import org.junit.jupiter.api.Test;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.ThrowableAssert.catchThrowable;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 class LoginAndRegisterFacadeTest {
 
+    UserLookupCache userLookupCache = new UserLookupCache(100, Duration.ofMinutes(5), Duration.ofSeconds(30));
     LoginAndRegisterFacade loginFacade  = new LoginAndRegisterFacade(
-            new InMemoryLoginRepository()
+            new InMemoryLoginRepository(),
+            userLookupCache
     );
 
     @Test
@@ -54,4 +58,51 @@ class LoginAndRegisterFacadeTest {
                 .hasMessage("User not found");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void should_update_password_of_existing_user() {
+        //given
+        RegistrationResultDto register = loginFacade.register(new RegisterUserDto("username", "pass"));
+        //when
+        loginFacade.updatePassword("username", "newPass");
+        //then
+        assertThat(loginFacade.findByUsername("username")).isEqualTo(new UserDto(register.id(), "newPass", "username"));
+    }
+
+    @Test
+    public void should_serve_repeated_lookups_from_cache() {
+        //given
+        loginFacade.register(new RegisterUserDto("username", "pass"));
+        loginFacade.findByUsername("username");
+        //when
+        UserDto userByName = loginFacade.findByUsername("username");
+        //then
+        assertAll(
+                () -> assertThat(userByName.username()).isEqualTo("username"),
+                () -> assertThat(userLookupCache.missCount()).isEqualTo(1),
+                () -> assertThat(userLookupCache.hitCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    public void should_find_user_registered_after_unknown_username_lookup_was_cached() {
+        //given
+        catchThrowable(() -> loginFacade.findByUsername("username"));
+        catchThrowable(() -> loginFacade.findByUsername("username"));
+        assertThat(userLookupCache.negativeHitCount()).isEqualTo(1);
+        //when
+        loginFacade.register(new RegisterUserDto("username", "pass"));
+        //then
+        assertThat(loginFacade.findByUsername("username").password()).isEqualTo("pass");
+    }
+
+    @Test
+    public void should_return_changed_password_after_password_update() {
+        //given
+        loginFacade.register(new RegisterUserDto("username", "pass"));
+        loginFacade.findByUsername("username");
+        //when
+        loginFacade.updatePassword("username", "newPass");
+        //then
+        assertThat(loginFacade.findByUsername("username").password()).isEqualTo("newPass");
+    }
+}
@@ -2,10 +2,12 @@ package com.junioroffers.domain.offer;
 
 import com.junioroffers.domain.offer.dto.JobOfferResponse;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class InMemoryFetcherTestImpl implements OfferFetchable{
 
     List<JobOfferResponse> listOfOffers;
+    boolean feedUnchanged;
 
     InMemoryFetcherTestImpl(List<JobOfferResponse> listOfOffers) {
         this.listOfOffers = listOfOffers;
@@ -15,4 +17,12 @@ public class InMemoryFetcherTestImpl implements OfferFetchable{
     public List<JobOfferResponse> fetchOffers() {
         return listOfOffers;
     }
+
+    @Override
+    public boolean fetchOffers(int chunkSize, Consumer<List<JobOfferResponse>> chunkConsumer) {
+        if (feedUnchanged) {
+            return false;
+        }
+        return OfferFetchable.super.fetchOffers(chunkSize, chunkConsumer);
+    }
 }
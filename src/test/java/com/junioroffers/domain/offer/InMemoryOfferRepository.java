@@ -6,17 +6,23 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.FluentQuery;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 public class InMemoryOfferRepository implements OfferRepository {
 
     Map<String, Offer> database = new ConcurrentHashMap<>();
+    private OfferFeedState feedState;
 
     @Override
     public boolean existsByOfferUrl(String offerUrl) {
@@ -27,6 +33,102 @@ public class InMemoryOfferRepository implements OfferRepository {
         return count == 1;
     }
 
+    @Override
+    public List<Offer> findAllByOrderByIdAsc(Pageable pageable) {
+        return database.values()
+                .stream()
+                .sorted(Comparator.comparing(Offer::id))
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    @Override
+    public List<Offer> findByIdGreaterThanOrderByIdAsc(String id, Pageable pageable) {
+        return database.values()
+                .stream()
+                .filter(offer -> offer.id().compareTo(id) > 0)
+                .sorted(Comparator.comparing(Offer::id))
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    @Override
+    public List<Offer> findAllByOfferUrlIn(Collection<String> offerUrls) {
+        return database.values()
+                .stream()
+                .filter(offer -> offerUrls.contains(offer.offerUrl()))
+                .toList();
+    }
+
+    @Override
+    public List<Offer> insertAllIgnoringDuplicates(List<Offer> offers) {
+        final List<Offer> savedOffers = new ArrayList<>();
+        for (Offer offer : offers) {
+            try {
+                savedOffers.add(save(offer));
+            } catch (OfferDuplicateException ignored) {
+            }
+        }
+        return savedOffers;
+    }
+
+    @Override
+    public int updateAllContent(List<Offer> offers) {
+        offers.forEach(offer -> database.computeIfPresent(offer.id(), (id, existingOffer) -> existingOffer.toBuilder()
+                .companyName(offer.companyName())
+                .position(offer.position())
+                .salary(offer.salary())
+                .contentHash(offer.contentHash())
+                .firstSeen(earliest(existingOffer.firstSeen(), offer.lastSeen()))
+                .lastSeen(offer.lastSeen())
+                .build()));
+        return offers.size();
+    }
+
+    @Override
+    public void updateLastSeen(Collection<String> offerUrls, Instant lastSeen) {
+        database.replaceAll((id, offer) -> offerUrls.contains(offer.offerUrl())
+                ? offer.toBuilder().firstSeen(earliest(offer.firstSeen(), lastSeen)).lastSeen(lastSeen).build()
+                : offer);
+    }
+
+    @Override
+    public long deleteByLastSeenBefore(Instant lastSeen) {
+        final List<String> staleOfferIds = database.values()
+                .stream()
+                .filter(offer -> offer.lastSeen() != null && offer.lastSeen().isBefore(lastSeen))
+                .map(Offer::id)
+                .toList();
+        staleOfferIds.forEach(database::remove);
+        return staleOfferIds.size();
+    }
+
+    @Override
+    public void recordFeedRun(Instant seenAt, boolean completeFeed) {
+        final Instant lastCompleteRunAt = feedState == null ? null : feedState.lastCompleteRunAt();
+        feedState = new OfferFeedState(OfferFeedState.OFFERS_FEED, seenAt, completeFeed,
+                completeFeed ? seenAt : lastCompleteRunAt);
+    }
+
+    @Override
+    public Optional<OfferFeedState> findFeedState() {
+        return Optional.ofNullable(feedState);
+    }
+
+    private static Instant earliest(Instant first, Instant second) {
+        return first == null || second.isBefore(first) ? second : first;
+    }
+
+    @Override
+    public Stream<Offer> streamAllBy() {
+        return database.values().stream();
+    }
+
+    @Override
+    public Stream<Offer> streamAllOfferUrlsBy() {
+        return database.values().stream();
+    }
+
     @Override
     public Optional<Offer> findById(String id) {
         return Optional.ofNullable(database.get(id));
@@ -48,7 +150,10 @@ public class InMemoryOfferRepository implements OfferRepository {
                 entity.companyName(),
                 entity.position(),
                 entity.salary(),
-                entity.offerUrl()
+                entity.offerUrl(),
+                entity.contentHash(),
+                entity.firstSeen(),
+                entity.lastSeen()
         );
         database.put(id.toString(), offer);
         return (S) offer;
@@ -1,11 +1,16 @@
 package com.junioroffers.domain.offer;
 
 import com.junioroffers.domain.offer.dto.JobOfferResponse;
+import com.junioroffers.domain.offer.dto.OfferIngestionResultDto;
+import com.junioroffers.domain.offer.dto.OfferPageResponseDto;
 import com.junioroffers.domain.offer.dto.OfferRequestDto;
 import com.junioroffers.domain.offer.dto.OfferResponseDto;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import org.assertj.core.api.AssertionsForClassTypes;
-import org.junit.Test;
+import org.junit.jupiter.api.Test;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.ThrowableAssert.catchThrowable;
 
@@ -18,7 +23,7 @@ public class OfferFacadeTest {
         OfferFacade offerFacade = new OfferFacadeTestConfiguration().offerFacadeForTests();
         assertThat(offerFacade.findAllOffers()).isEmpty();
         //when
-        List<OfferResponseDto> result = offerFacade.fetchAllOffersAndSaveAllIfNotExist();
+        List<OfferResponseDto> result = offerFacade.fetchAllOffersAndSaveAllIfNotExist().addedOffers();
         //then
         assertThat(result).hasSize(6);
     }
@@ -42,7 +47,7 @@ public class OfferFacadeTest {
         offerFacade.saveOffer(new OfferRequestDto("id", "Senior", "18000", "04"));
         assertThat(offerFacade.findAllOffers()).hasSize(4);
         //when
-        List<OfferResponseDto> response = offerFacade.fetchAllOffersAndSaveAllIfNotExist();
+        List<OfferResponseDto> response = offerFacade.fetchAllOffersAndSaveAllIfNotExist().addedOffers();
         //then
         assertThat(List.of(
                         response.get(0).offerUrl(),
@@ -110,4 +115,206 @@ public class OfferFacadeTest {
                 .isInstanceOf(OfferDuplicateException.class)
                 .hasMessage("Offer with offerUrl [random.pl] already exist");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void should_return_offers_page_by_page_when_limit_is_smaller_than_offers_count() {
+        //given
+        OfferFacade offerFacade = new OfferFacadeTestConfiguration().offerFacadeForTests();
+        offerFacade.fetchAllOffersAndSaveAllIfNotExist();
+        //when
+        OfferPageResponseDto firstPage = offerFacade.findOffersPage(null, 4);
+        OfferPageResponseDto secondPage = offerFacade.findOffersPage(firstPage.nextCursor(), 4);
+        //then
+        assertThat(firstPage.offers()).hasSize(4);
+        assertThat(firstPage.nextCursor()).isEqualTo(firstPage.offers().get(3).id());
+        assertThat(secondPage.offers()).hasSize(2);
+        assertThat(secondPage.nextCursor()).isNull();
+        assertThat(secondPage.offers()).doesNotContainAnyElementsOf(firstPage.offers());
+    }
+
+    @Test
+    public void should_stream_all_saved_offers() {
+        //given
+        OfferFacade offerFacade = new OfferFacadeTestConfiguration().offerFacadeForTests();
+        List<OfferResponseDto> savedOffers = offerFacade.fetchAllOffersAndSaveAllIfNotExist().addedOffers();
+        List<OfferResponseDto> streamedOffers = new ArrayList<>();
+        //when
+        offerFacade.streamAllOffers(streamedOffers::add);
+        //then
+        assertThat(streamedOffers).containsExactlyInAnyOrderElementsOf(savedOffers);
+    }
+
+    @Test
+    public void should_count_duplicated_and_skipped_offers_when_fetching_offers() {
+        //given
+        OfferFacade offerFacade = new OfferFacadeTestConfiguration(
+                List.of(
+                        new JobOfferResponse("Junior", "IBM", "14000", "01"),
+                        new JobOfferResponse("Junior", "IBM", "14000", "01"),
+                        new JobOfferResponse("Senior", "mBank", "23000", "02"),
+                        new JobOfferResponse("Junior", "Samsung", "9000", "03"),
+                        new JobOfferResponse("Senior", "ING", "21000", ""),
+                        new JobOfferResponse("Junior", "Google", "15000", null)
+                )
+        ).offerFacadeForTests();
+        offerFacade.saveOffer(new OfferRequestDto("id", "Senior", "17000", "02"));
+        //when
+        OfferIngestionResultDto result = offerFacade.fetchAllOffersAndSaveAllIfNotExist();
+        //then
+        assertThat(result.addedOffers()).extracting(OfferResponseDto::offerUrl).containsExactlyInAnyOrder("01", "03");
+        assertThat(result.fetchedOffers()).isEqualTo(6);
+        assertThat(result.updatedOffers()).isEqualTo(1);
+        assertThat(result.duplicatedOffers()).isEqualTo(1);
+        assertThat(result.skippedOffers()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_stop_saving_offers_when_ingestion_guard_is_no_longer_satisfied() {
+        //given
+        OfferFacade offerFacade = new OfferFacadeTestConfiguration().offerFacadeForTests();
+        List<Boolean> guardAnswers = new ArrayList<>(List.of(true, false));
+        //when
+        Throwable thrown = catchThrowable(() -> offerFacade.fetchAllOffersAndSaveAllIfNotExist(() -> guardAnswers.remove(0)));
+        //then
+        AssertionsForClassTypes.assertThat(thrown).isInstanceOf(OfferIngestionInterruptedException.class);
+        assertThat(offerFacade.findAllOffers()).hasSize(OfferFacadeTestConfiguration.BATCH_SIZE);
+    }
+
+    @Test
+    public void should_update_only_offers_whose_content_changed_when_fetching_offers() {
+        //given
+        OfferFacade offerFacade = new OfferFacadeTestConfiguration(
+                List.of(
+                        new JobOfferResponse("Junior", "IBM", "14000", "01"),
+                        new JobOfferResponse("Senior", "mBank", "25000", "02")
+                )
+        ).offerFacadeForTests();
+        OfferResponseDto unchangedOffer = offerFacade.saveOffer(new OfferRequestDto("IBM", "Junior", "14000", "01"));
+        OfferResponseDto changedOffer = offerFacade.saveOffer(new OfferRequestDto("mBank", "Senior", "23000", "02"));
+        //when
+        OfferIngestionResultDto result = offerFacade.fetchAllOffersAndSaveAllIfNotExist();
+        //then
+        assertThat(result.addedOffers()).isEmpty();
+        assertThat(result.updatedOffers()).isEqualTo(1);
+        assertThat(result.duplicatedOffers()).isEqualTo(1);
+        assertThat(offerFacade.findOfferById(changedOffer.id()).salary()).isEqualTo("25000");
+        assertThat(offerFacade.findOfferById(unchangedOffer.id())).isEqualTo(unchangedOffer);
+    }
+
+    @Test
+    public void should_remove_only_fetched_offers_not_seen_for_retention_period() {
+        //given
+        MutableClock clock = new MutableClock(Instant.parse("2023-01-01T10:00:00Z"));
+        OfferFacade offerFacade = new OfferFacadeTestConfiguration(
+                List.of(
+                        new JobOfferResponse("Junior", "IBM", "14000", "01"),
+                        new JobOfferResponse("Senior", "mBank", "23000", "02")
+                ),
+                clock
+        ).offerFacadeForTests();
+        OfferResponseDto manualOffer = offerFacade.saveOffer(new OfferRequestDto("ING", "Junior", "9000", "03"));
+        offerFacade.fetchAllOffersAndSaveAllIfNotExist();
+        clock.advance(Duration.ofDays(10));
+        offerFacade.fetchAllOffersAndSaveAllIfNotExist();
+        clock.advance(Duration.ofDays(10));
+        //when
+        long removedBeforeRetention = offerFacade.removeOffersNotSeenFor(Duration.ofDays(14));
+        clock.advance(Duration.ofDays(5));
+        long removedAfterRetention = offerFacade.removeOffersNotSeenFor(Duration.ofDays(14));
+        //then
+        assertThat(removedBeforeRetention).isZero();
+        assertThat(removedAfterRetention).isEqualTo(2);
+        assertThat(offerFacade.findAllOffers()).containsExactly(manualOffer);
+    }
+
+    @Test
+    public void should_keep_manually_added_offers_when_removing_stale_offers() {
+        //given
+        MutableClock clock = new MutableClock(Instant.parse("2023-01-01T10:00:00Z"));
+        OfferFacade offerFacade = new OfferFacadeTestConfiguration(List.of(), clock).offerFacadeForTests();
+        OfferResponseDto manualOffer = offerFacade.saveOffer(new OfferRequestDto("ING", "Junior", "9000", "03"));
+        offerFacade.fetchAllOffersAndSaveAllIfNotExist();
+        clock.advance(Duration.ofDays(365));
+        offerFacade.fetchAllOffersAndSaveAllIfNotExist();
+        //when
+        long removedOffers = offerFacade.removeOffersNotSeenFor(Duration.ofDays(14));
+        //then
+        assertThat(removedOffers).isZero();
+        assertThat(offerFacade.findAllOffers()).containsExactly(manualOffer);
+    }
+
+    @Test
+    public void should_not_remove_offers_of_feed_unchanged_since_last_fetch() {
+        //given
+        MutableClock clock = new MutableClock(Instant.parse("2023-01-01T10:00:00Z"));
+        InMemoryFetcherTestImpl remoteClient = new InMemoryFetcherTestImpl(List.of(
+                new JobOfferResponse("Junior", "IBM", "14000", "01"),
+                new JobOfferResponse("Senior", "mBank", "23000", "02")
+        ));
+        OfferFacade offerFacade = new OfferFacadeTestConfiguration(remoteClient, clock).offerFacadeForTests();
+        offerFacade.fetchAllOffersAndSaveAllIfNotExist();
+        remoteClient.feedUnchanged = true;
+        clock.advance(Duration.ofDays(10));
+        OfferIngestionResultDto unchangedFeedResult = offerFacade.fetchAllOffersAndSaveAllIfNotExist();
+        clock.advance(Duration.ofDays(10));
+        //when
+        long removedWhileFeedUnchanged = offerFacade.removeOffersNotSeenFor(Duration.ofDays(14));
+        remoteClient.feedUnchanged = false;
+        remoteClient.listOfOffers = List.of(new JobOfferResponse("Junior", "IBM", "14000", "01"));
+        offerFacade.fetchAllOffersAndSaveAllIfNotExist();
+        clock.advance(Duration.ofDays(5));
+        long removedAfterRetention = offerFacade.removeOffersNotSeenFor(Duration.ofDays(14));
+        //then
+        assertThat(unchangedFeedResult.fetchedOffers()).isZero();
+        assertThat(removedWhileFeedUnchanged).isZero();
+        assertThat(removedAfterRetention).isEqualTo(1);
+        assertThat(offerFacade.findAllOffers()).extracting(OfferResponseDto::offerUrl).containsExactly("01");
+    }
+
+    @Test
+    public void should_not_remove_offers_of_unchanged_feed_when_purging_on_another_node() {
+        //given
+        MutableClock clock = new MutableClock(Instant.parse("2023-01-01T10:00:00Z"));
+        InMemoryFetcherTestImpl remoteClient = new InMemoryFetcherTestImpl(List.of(
+                new JobOfferResponse("Junior", "IBM", "14000", "01"),
+                new JobOfferResponse("Senior", "mBank", "23000", "02")
+        ));
+        InMemoryOfferRepository sharedRepository = new InMemoryOfferRepository();
+        OfferFacade ingestingNode = new OfferFacadeTestConfiguration(remoteClient, sharedRepository, clock)
+                .offerFacadeForTests();
+        OfferFacade restartedNode = new OfferFacadeTestConfiguration(remoteClient, sharedRepository, clock)
+                .offerFacadeForTests();
+        ingestingNode.fetchAllOffersAndSaveAllIfNotExist();
+        remoteClient.feedUnchanged = true;
+        clock.advance(Duration.ofDays(10));
+        ingestingNode.fetchAllOffersAndSaveAllIfNotExist();
+        clock.advance(Duration.ofDays(10));
+        //when
+        long removedOffers = restartedNode.removeOffersNotSeenFor(Duration.ofDays(14));
+        //then
+        assertThat(removedOffers).isZero();
+        assertThat(restartedNode.findAllOffers()).hasSize(2);
+    }
+
+    @Test
+    public void should_not_remove_any_offers_before_first_complete_feed_was_fetched() {
+        //given
+        MutableClock clock = new MutableClock(Instant.parse("2023-01-01T10:00:00Z"));
+        InMemoryOfferRepository repository = new InMemoryOfferRepository();
+        repository.save(Offer.builder()
+                .offerUrl("01")
+                .firstSeen(clock.instant())
+                .lastSeen(clock.instant())
+                .build());
+        InMemoryFetcherTestImpl remoteClient = new InMemoryFetcherTestImpl(List.of());
+        remoteClient.feedUnchanged = true;
+        OfferFacade offerFacade = new OfferFacadeTestConfiguration(remoteClient, repository, clock).offerFacadeForTests();
+        offerFacade.fetchAllOffersAndSaveAllIfNotExist();
+        clock.advance(Duration.ofDays(20));
+        //when
+        long removedOffers = offerFacade.removeOffersNotSeenFor(Duration.ofDays(14));
+        //then
+        assertThat(removedOffers).isZero();
+        assertThat(repository.findAll()).hasSize(1);
+    }
+}
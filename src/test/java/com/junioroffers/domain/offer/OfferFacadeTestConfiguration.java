@@ -2,11 +2,18 @@ package com.junioroffers.domain.offer;
 
 import com.junioroffers.domain.offer.dto.JobOfferResponse;
 
+import java.time.Clock;
 import java.util.List;
 
 public class OfferFacadeTestConfiguration {
+    static final int BATCH_SIZE = 2;
+    private static final long EXPECTED_OFFER_URLS = 100;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int QUEUE_CAPACITY = 1;
+    private static final int STAGE_CONCURRENCY = 1;
     private final InMemoryFetcherTestImpl inMemoryFetcherTest;
     private final InMemoryOfferRepository offerRepository;
+    private final Clock clock;
 
     OfferFacadeTestConfiguration() {
         this.inMemoryFetcherTest = new InMemoryFetcherTestImpl(
@@ -20,14 +27,34 @@ public class OfferFacadeTestConfiguration {
                 )
         );
         this.offerRepository = new InMemoryOfferRepository();
+        this.clock = Clock.systemUTC();
     }
 
     OfferFacadeTestConfiguration(List<JobOfferResponse> remoteClientOffers) {
-        this.inMemoryFetcherTest = new InMemoryFetcherTestImpl(remoteClientOffers);
-        this.offerRepository = new InMemoryOfferRepository();
+        this(remoteClientOffers, Clock.systemUTC());
+    }
+
+    OfferFacadeTestConfiguration(List<JobOfferResponse> remoteClientOffers, Clock clock) {
+        this(new InMemoryFetcherTestImpl(remoteClientOffers), clock);
+    }
+
+    OfferFacadeTestConfiguration(InMemoryFetcherTestImpl remoteClient, Clock clock) {
+        this(remoteClient, new InMemoryOfferRepository(), clock);
+    }
+
+    OfferFacadeTestConfiguration(InMemoryFetcherTestImpl remoteClient, InMemoryOfferRepository offerRepository,
+                                 Clock clock) {
+        this.inMemoryFetcherTest = remoteClient;
+        this.offerRepository = offerRepository;
+        this.clock = clock;
     }
 
     OfferFacade offerFacadeForTests() {
-        return new OfferFacade(offerRepository, new OfferService(inMemoryFetcherTest, offerRepository));
+        OfferUrlFilter offerUrlFilter = new OfferUrlFilter(EXPECTED_OFFER_URLS, FALSE_POSITIVE_RATE);
+        return new OfferFacade(offerRepository,
+                new OfferService(inMemoryFetcherTest, new OfferIngestionPipeline(offerRepository, offerUrlFilter,
+                        clock, BATCH_SIZE, QUEUE_CAPACITY, STAGE_CONCURRENCY, STAGE_CONCURRENCY, STAGE_CONCURRENCY)),
+                offerUrlFilter,
+                clock);
     }
 }
@@ -0,0 +1,222 @@
+package com.junioroffers.domain.offer;
+
+import com.junioroffers.domain.offer.dto.JobOfferResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class OfferIngestionPipelineTest {
+    private static final int BATCH_SIZE = 2;
+    private static final int QUEUE_CAPACITY = 1;
+    private static final int STAGES_HOLDING_A_BATCH = 3;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Test
+    void should_propagate_failure_of_a_worker_stage_and_finish_the_run() {
+        // given
+        RuntimeException failure = new IllegalStateException("write failed");
+        InMemoryOfferRepository repository = new InMemoryOfferRepository() {
+            @Override
+            public List<Offer> insertAllIgnoringDuplicates(List<Offer> offers) {
+                throw failure;
+            }
+        };
+        OfferIngestionPipeline pipeline = pipelineFor(repository);
+
+        // when
+        Throwable thrown = assertTimeoutPreemptively(TIMEOUT,
+                () -> catchThrowable(() -> pipeline.ingest(fetcherOf(20), () -> true)));
+
+        // then
+        assertThat(thrown).isSameAs(failure);
+        assertThat(repository.findAll()).isEmpty();
+    }
+
+    @Test
+    void should_commit_fetched_offers_only_after_all_batches_were_written() {
+        // given
+        AtomicInteger commits = new AtomicInteger();
+        InMemoryOfferRepository failingRepository = new InMemoryOfferRepository() {
+            @Override
+            public List<Offer> insertAllIgnoringDuplicates(List<Offer> offers) {
+                throw new IllegalStateException("write failed");
+            }
+        };
+
+        // when
+        catchThrowable(() -> pipelineFor(failingRepository).ingest(committingFetcherOf(20, commits), () -> true));
+        int commitsAfterFailedRun = commits.get();
+        InMemoryOfferRepository repository = new InMemoryOfferRepository();
+        pipelineFor(repository).ingest(committingFetcherOf(20, commits), () -> true);
+
+        // then
+        assertThat(commitsAfterFailedRun).isZero();
+        assertThat(commits.get()).isEqualTo(1);
+        assertThat(repository.findAll()).hasSize(20 * BATCH_SIZE);
+    }
+
+    @Test
+    void should_block_fetching_when_stage_queues_are_full() throws Exception {
+        // given
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        InMemoryOfferRepository repository = new InMemoryOfferRepository() {
+            @Override
+            public List<Offer> insertAllIgnoringDuplicates(List<Offer> offers) {
+                writeStarted.countDown();
+                try {
+                    releaseWrite.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.insertAllIgnoringDuplicates(offers);
+            }
+        };
+        OfferIngestionPipeline pipeline = pipelineFor(repository);
+        AtomicInteger emittedChunks = new AtomicInteger();
+        int chunks = 20;
+
+        // when
+        CompletableFuture<OfferIngestionResult> ingestion = CompletableFuture.supplyAsync(
+                () -> pipeline.ingest(countingFetcherOf(chunks, emittedChunks), () -> true));
+        assertThat(writeStarted.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        Thread.sleep(200);
+
+        // then
+        int maximumChunksInFlight = STAGES_HOLDING_A_BATCH * (QUEUE_CAPACITY + 1) + 1;
+        assertThat(emittedChunks.get()).isLessThanOrEqualTo(maximumChunksInFlight);
+        for (OfferIngestionStage stage : List.of(OfferIngestionStage.NORMALIZE, OfferIngestionStage.DEDUPE,
+                OfferIngestionStage.WRITE)) {
+            assertThat(pipeline.queueDepth(stage)).isLessThanOrEqualTo(QUEUE_CAPACITY);
+        }
+        releaseWrite.countDown();
+        OfferIngestionResult result = ingestion.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        assertThat(result.savedOffers()).hasSize(chunks * BATCH_SIZE);
+    }
+
+    @Test
+    void should_not_write_any_batch_after_ingestion_guard_is_revoked_mid_run() {
+        // given
+        AtomicInteger inserts = new AtomicInteger();
+        InMemoryOfferRepository repository = new InMemoryOfferRepository() {
+            @Override
+            public List<Offer> insertAllIgnoringDuplicates(List<Offer> offers) {
+                inserts.incrementAndGet();
+                return super.insertAllIgnoringDuplicates(offers);
+            }
+        };
+        OfferIngestionPipeline pipeline = pipelineFor(repository);
+        AtomicInteger guardChecks = new AtomicInteger();
+
+        // when
+        Throwable thrown = assertTimeoutPreemptively(TIMEOUT, () -> catchThrowable(
+                () -> pipeline.ingest(fetcherOf(20), () -> guardChecks.incrementAndGet() <= 2)));
+
+        // then
+        assertThat(thrown).isInstanceOf(OfferIngestionInterruptedException.class);
+        assertThat(inserts.get()).isEqualTo(2);
+        assertThat(guardChecks.get()).isEqualTo(3);
+        assertThat(repository.findAll()).hasSize(2 * BATCH_SIZE);
+    }
+
+    @Test
+    void should_update_offers_saved_by_another_node_which_local_url_filter_does_not_know() {
+        // given
+        Instant previousRun = Instant.parse("2023-01-01T10:00:00Z");
+        Instant currentRun = previousRun.plus(Duration.ofDays(1));
+        InMemoryOfferRepository repository = new InMemoryOfferRepository();
+        Offer changedOffer = repository.save(offerSeenAt(new JobOfferResponse("Junior", "IBM", "14000", "url-0"),
+                previousRun));
+        Offer unchangedOffer = repository.save(offerSeenAt(new JobOfferResponse("Senior", "mBank", "23000", "url-1"),
+                previousRun));
+        OfferIngestionPipeline pipeline = new OfferIngestionPipeline(repository, new OfferUrlFilter(1_000, 0.01),
+                Clock.fixed(currentRun, ZoneOffset.UTC), BATCH_SIZE, QUEUE_CAPACITY, 1, 1, 1);
+        List<JobOfferResponse> feed = List.of(
+                new JobOfferResponse("Junior", "IBM", "16000", "url-0"),
+                new JobOfferResponse("Senior", "mBank", "23000", "url-1"));
+
+        // when
+        OfferIngestionResult result = pipeline.ingest(() -> feed, () -> true);
+
+        // then
+        assertThat(result.savedOffers()).isEmpty();
+        assertThat(result.updatedOffers()).isEqualTo(1);
+        assertThat(repository.findById(changedOffer.id())).get()
+                .extracting(Offer::salary, Offer::lastSeen)
+                .containsExactly("16000", currentRun);
+        assertThat(repository.findById(unchangedOffer.id())).get()
+                .extracting(Offer::salary, Offer::lastSeen)
+                .containsExactly("23000", currentRun);
+    }
+
+    private OfferIngestionPipeline pipelineFor(InMemoryOfferRepository repository) {
+        return new OfferIngestionPipeline(repository, new OfferUrlFilter(1_000, 0.01), Clock.systemUTC(),
+                BATCH_SIZE, QUEUE_CAPACITY, 1, 1, 1);
+    }
+
+    private static Offer offerSeenAt(JobOfferResponse response, Instant seenAt) {
+        return OfferMapper.mapFromJobOfferResponseToOffer(response).toBuilder()
+                .firstSeen(seenAt)
+                .lastSeen(seenAt)
+                .build();
+    }
+
+    private static OfferFetchable fetcherOf(int chunks) {
+        return countingFetcherOf(chunks, new AtomicInteger());
+    }
+
+    private static OfferFetchable committingFetcherOf(int chunks, AtomicInteger commits) {
+        OfferFetchable fetcher = fetcherOf(chunks);
+        return new OfferFetchable() {
+            @Override
+            public List<JobOfferResponse> fetchOffers() {
+                return fetcher.fetchOffers();
+            }
+
+            @Override
+            public boolean fetchOffers(int chunkSize, Consumer<List<JobOfferResponse>> chunkConsumer) {
+                return fetcher.fetchOffers(chunkSize, chunkConsumer);
+            }
+
+            @Override
+            public void commitFetchedOffers() {
+                commits.incrementAndGet();
+            }
+        };
+    }
+
+    private static OfferFetchable countingFetcherOf(int chunks, AtomicInteger emittedChunks) {
+        List<JobOfferResponse> offers = IntStream.range(0, chunks * BATCH_SIZE)
+                .mapToObj(i -> new JobOfferResponse("Junior", "Company" + i, "10000", "url-" + i))
+                .toList();
+        return new OfferFetchable() {
+            @Override
+            public List<JobOfferResponse> fetchOffers() {
+                return offers;
+            }
+
+            @Override
+            public boolean fetchOffers(int chunkSize, Consumer<List<JobOfferResponse>> chunkConsumer) {
+                for (int from = 0; from < offers.size(); from += chunkSize) {
+                    emittedChunks.incrementAndGet();
+                    chunkConsumer.accept(offers.subList(from, Math.min(from + chunkSize, offers.size())));
+                }
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.junioroffers.domain.offer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+class OfferUrlFilterTest {
+    private static final int EXPECTED_URLS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int PROBED_URLS = 100_000;
+
+    @Test
+    void should_contain_every_put_url() {
+        // given
+        OfferUrlFilter filter = new OfferUrlFilter(EXPECTED_URLS, FALSE_POSITIVE_RATE);
+        List<String> urls = urls("https://offers.example.com/", EXPECTED_URLS);
+
+        // when
+        urls.forEach(filter::put);
+
+        // then
+        assertThat(urls).allMatch(filter::mightContain);
+        assertThat(filter.approximateUrlCount()).isCloseTo(EXPECTED_URLS, withinPercentage(1));
+    }
+
+    @Test
+    void should_keep_false_positive_rate_near_configured_rate_at_expected_size() {
+        // given
+        OfferUrlFilter filter = new OfferUrlFilter(EXPECTED_URLS, FALSE_POSITIVE_RATE);
+        urls("https://offers.example.com/", EXPECTED_URLS).forEach(filter::put);
+
+        // when
+        long falsePositives = urls("https://unknown.example.com/", PROBED_URLS).stream()
+                .filter(filter::mightContain)
+                .count();
+
+        // then
+        double observedRate = (double) falsePositives / PROBED_URLS;
+        assertThat(observedRate).isBetween(FALSE_POSITIVE_RATE / 2, FALSE_POSITIVE_RATE * 1.5);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(FALSE_POSITIVE_RATE / 2, FALSE_POSITIVE_RATE * 1.5);
+    }
+
+    @Test
+    void should_size_filter_for_at_least_one_url_when_no_urls_are_expected() {
+        // when
+        OfferUrlFilter noUrlsFilter = new OfferUrlFilter(0, FALSE_POSITIVE_RATE);
+        OfferUrlFilter singleUrlFilter = new OfferUrlFilter(1, FALSE_POSITIVE_RATE);
+        noUrlsFilter.put("https://offers.example.com/1");
+
+        // then
+        assertThat(noUrlsFilter.memorySizeInBytes()).isEqualTo(Long.BYTES);
+        assertThat(noUrlsFilter.hashFunctions()).isEqualTo(singleUrlFilter.hashFunctions()).isPositive();
+        assertThat(noUrlsFilter.mightContain("https://offers.example.com/1")).isTrue();
+    }
+
+    @Test
+    void should_grow_bits_and_hash_functions_for_very_small_false_positive_rate() {
+        // when
+        OfferUrlFilter defaultFilter = new OfferUrlFilter(EXPECTED_URLS, FALSE_POSITIVE_RATE);
+        OfferUrlFilter strictFilter = new OfferUrlFilter(EXPECTED_URLS, 1e-9);
+
+        // then
+        assertThat(defaultFilter.memorySizeInBytes()).isEqualTo(11_984);
+        assertThat(defaultFilter.hashFunctions()).isEqualTo(7);
+        assertThat(strictFilter.memorySizeInBytes()).isEqualTo(53_920);
+        assertThat(strictFilter.hashFunctions()).isEqualTo(30);
+    }
+
+    @Test
+    void should_seed_filter_with_urls_of_stored_offers_and_close_the_stream() {
+        // given
+        AtomicBoolean streamClosed = new AtomicBoolean();
+        InMemoryOfferRepository repository = new InMemoryOfferRepository() {
+            @Override
+            public Stream<Offer> streamAllOfferUrlsBy() {
+                return super.streamAllOfferUrlsBy().onClose(() -> streamClosed.set(true));
+            }
+        };
+        List<String> storedUrls = urls("https://offers.example.com/", 100);
+        storedUrls.forEach(url -> repository.save(Offer.builder().offerUrl(url).build()));
+        OfferIngestionProperties properties = new OfferIngestionProperties(2, EXPECTED_URLS, FALSE_POSITIVE_RATE,
+                0, 0, 0, 0);
+
+        // when
+        OfferUrlFilter filter = new OfferFacadeConfiguration().offerUrlFilter(repository, properties);
+
+        // then
+        assertThat(storedUrls).allMatch(filter::mightContain);
+        assertThat(filter.approximateUrlCount()).isEqualTo(storedUrls.size());
+        assertThat(streamClosed).isTrue();
+    }
+
+    private static List<String> urls(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> prefix + i)
+                .toList();
+    }
+}
@@ -0,0 +1,122 @@
+package com.junioroffers.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CacheInvalidationBusTest {
+
+    private static final String CHANNEL = "offers:cache-invalidation";
+    private static final Duration REORDER_WINDOW = Duration.ofSeconds(5);
+
+    MutableClock clock = new MutableClock(Instant.parse("2023-01-01T10:00:00Z"));
+    RecordingInvalidator invalidator = new RecordingInvalidator();
+    CacheInvalidationBus bus = new CacheInvalidationBus(null, CHANNEL, "this-node", REORDER_WINDOW, clock);
+
+    CacheInvalidationBusTest() {
+        bus.register(invalidator);
+    }
+
+    @Test
+    void should_apply_reordered_events_without_clearing_local_caches() {
+        // given
+        receive("other-node|1|offers|a");
+        receive("other-node|3|offers|c");
+
+        // when
+        receive("other-node|2|offers|b");
+        clock.advance(REORDER_WINDOW.multipliedBy(2));
+        receive("other-node|4|offers|d");
+
+        // then
+        assertThat(invalidator.invalidatedKeys).containsExactly("a", "c", "b", "d");
+        assertThat(invalidator.clears).isZero();
+    }
+
+    @Test
+    void should_clear_local_caches_when_missing_event_did_not_arrive_within_reorder_window() {
+        // given
+        receive("other-node|1|offers|a");
+        receive("other-node|3|offers|c");
+
+        // when
+        clock.advance(REORDER_WINDOW);
+        receive("other-node|4|offers|d");
+
+        // then
+        assertThat(invalidator.invalidatedKeys).containsExactly("a", "c");
+        assertThat(invalidator.clears).isEqualTo(1);
+    }
+
+    @Test
+    void should_track_generations_of_each_origin_separately() {
+        // given
+        receive("first-node|1|offers|a");
+        receive("second-node|7|offers|b");
+
+        // when
+        receive("first-node|2|offers|c");
+        receive("second-node|8|offers|d");
+
+        // then
+        assertThat(invalidator.invalidatedKeys).containsExactly("a", "b", "c", "d");
+        assertThat(invalidator.clears).isZero();
+    }
+
+    private void receive(String event) {
+        bus.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                event.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    private static class RecordingInvalidator implements LocalCacheInvalidator {
+        private final List<String> invalidatedKeys = new ArrayList<>();
+        private int clears;
+
+        @Override
+        public void invalidateLocal(String cacheName, String key) {
+            invalidatedKeys.add(key);
+        }
+
+        @Override
+        public void invalidateAllLocal() {
+            clears++;
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
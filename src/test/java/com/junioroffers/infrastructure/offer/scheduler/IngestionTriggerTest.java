@@ -0,0 +1,85 @@
+package com.junioroffers.infrastructure.offer.scheduler;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IngestionTriggerTest {
+
+    private static final Instant NOW = Instant.parse("2023-01-01T10:00:00Z");
+
+    IngestionScheduleProperties properties = new IngestionScheduleProperties(
+            IngestionScheduleMode.ADAPTIVE,
+            new IngestionScheduleProperties.Request(Duration.ofHours(1)),
+            new IngestionScheduleProperties.Adaptive(Duration.ofMinutes(15), Duration.ofHours(4), 2, 10),
+            10);
+    IngestionRunHistory history = new IngestionRunHistory(properties);
+    IngestionTrigger trigger = new IngestionTrigger(properties, history, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void should_run_immediately_on_first_execution() {
+        // when
+        Date nextRun = trigger.nextExecutionTime(new SimpleTriggerContext());
+
+        // then
+        assertThat(nextRun.toInstant()).isEqualTo(NOW);
+    }
+
+    @Test
+    void should_back_off_exponentially_up_to_max_delay_when_runs_find_no_new_offers() {
+        // given
+        recordSucceededRun(0);
+
+        // when
+        trigger.nextExecutionTime(completedAt(NOW));
+        trigger.nextExecutionTime(completedAt(NOW));
+        Date nextRun = trigger.nextExecutionTime(completedAt(NOW));
+
+        // then
+        assertThat(trigger.getCurrentDelay()).isEqualTo(Duration.ofHours(4));
+        assertThat(nextRun.toInstant()).isEqualTo(NOW.plus(Duration.ofHours(4)));
+    }
+
+    @Test
+    void should_shorten_delay_down_to_min_delay_when_runs_find_many_new_offers() {
+        // given
+        recordSucceededRun(25);
+
+        // when
+        trigger.nextExecutionTime(completedAt(NOW));
+        trigger.nextExecutionTime(completedAt(NOW));
+        trigger.nextExecutionTime(completedAt(NOW));
+
+        // then
+        assertThat(trigger.getCurrentDelay()).isEqualTo(Duration.ofMinutes(15));
+    }
+
+    @Test
+    void should_keep_delay_when_runs_find_few_new_offers() {
+        // given
+        recordSucceededRun(3);
+
+        // when
+        trigger.nextExecutionTime(completedAt(NOW));
+
+        // then
+        assertThat(trigger.getCurrentDelay()).isEqualTo(Duration.ofHours(1));
+    }
+
+    private void recordSucceededRun(int addedOffers) {
+        history.record(new IngestionRun(1, IngestionRunTrigger.SCHEDULED, IngestionRunStatus.SUCCEEDED, NOW, NOW,
+                addedOffers, addedOffers, 0, 0, 0, null));
+    }
+
+    private static SimpleTriggerContext completedAt(Instant completion) {
+        final Date date = Date.from(completion);
+        return new SimpleTriggerContext(date, date, date);
+    }
+}